@@ -0,0 +1,53 @@
+package com.back.global.jwt;
+
+import com.back.standard.util.Ut;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh 로 실행한다. 요청마다 액세스 토큰 하나를 검증하는 비용을 비교한다.
+// 매번 키/파서 생성(Ut.jwt.payload) vs 파서 재사용 vs 검증 캐시
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtCodecBenchmark {
+    private static final String SECRET = "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+
+    private JwtCodec uncachedCodec;
+    private JwtCodec cachedCodec;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedCodec = new JwtCodec("1", SECRET, Map.of(), 0, new SimpleMeterRegistry());
+        cachedCodec = new JwtCodec("1", SECRET, Map.of(), 10_000, new SimpleMeterRegistry());
+
+        token = cachedCodec.encode(
+                60 * 20,
+                Map.of("id", 1, "username", "user1", "nickname", "testUser1", "role", "ROLE_USER")
+        );
+    }
+
+    @Benchmark
+    public Map<String, Object> utPayload() {
+        return Ut.jwt.payload(SECRET, token);
+    }
+
+    @Benchmark
+    public Map<String, Object> parserReuse() {
+        return uncachedCodec.decode(token);
+    }
+
+    @Benchmark
+    public Map<String, Object> verifiedCache() {
+        return cachedCodec.decode(token);
+    }
+}
@@ -4,14 +4,19 @@ package com.back.domain.order.orderItem.controller;
 import com.back.domain.order.orderItem.dto.OrderItemDto;
 import com.back.domain.order.orderItem.entity.OrderItem;
 import com.back.domain.order.orderItem.service.OrderItemService;
+import com.back.global.export.ExportFormat;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -41,6 +46,20 @@ public class ApiV1AdmOrderItemController {
                 .toList();
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "주문 아이템 내보내기", description = "전체 주문 아이템을 id 순으로 CSV(기본) 또는 NDJSON 으로 내려받습니다. 행을 읽는 대로 바로 씁니다.")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "CSV") ExportFormat format
+    ) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName("orderItems")).build().toString()
+                )
+                .body(orderItemService.export(format));
+    }
+
     @PutMapping("/{id}")
     @Transactional
     @Operation(summary = "주문 아이템 수정 관리자용")
@@ -4,8 +4,10 @@ package com.back.domain.order.orderItem.controller;
 import com.back.domain.order.orderItem.dto.OrderItemDto;
 import com.back.domain.order.orderItem.entity.OrderItem;
 import com.back.domain.order.orderItem.service.OrderItemService;
+import com.back.global.idempotency.Idempotent;
 import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
+import com.back.global.security.OwnershipChecker;
 import com.back.global.security.UserSecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,6 +28,7 @@ import java.util.List;
 public class ApiV1OrderItemController {
     private final OrderItemService orderItemService;
     private final Rq rq;
+    private final OwnershipChecker ownershipChecker;
 
     record OrderItemCreateReqBody(
             @NotNull
@@ -44,6 +47,7 @@ public class ApiV1OrderItemController {
     }
 
     @PostMapping
+    @Idempotent
     @Transactional
     @Operation(summary = "주문 아이템 생성")
     public RsData<OrderItemDto> create(
@@ -97,9 +101,9 @@ public class ApiV1OrderItemController {
             @Valid @RequestBody OrderItemUpdateReqBody reqBody,
             @AuthenticationPrincipal UserSecurityUser currentUser
     ) {
-        OrderItem orderItem = orderItemService.findById(id).get();
+        ownershipChecker.checkOrderItem(id, currentUser, "수정");
 
-        orderItem.checkCanUpdate(currentUser.getId());
+        OrderItem orderItem = orderItemService.findById(id).get();
 
         orderItemService.update(
                 orderItem,
@@ -121,9 +125,9 @@ public class ApiV1OrderItemController {
             @PathVariable int id,
             @AuthenticationPrincipal UserSecurityUser currentUser
     ) {
-        OrderItem orderItem = orderItemService.findById(id).get();
+        ownershipChecker.checkOrderItem(id, currentUser, "삭제");
 
-        orderItem.checkCanDelete(currentUser.getId());
+        OrderItem orderItem = orderItemService.findById(id).get();
 
         orderItemService.delete(orderItem);
 
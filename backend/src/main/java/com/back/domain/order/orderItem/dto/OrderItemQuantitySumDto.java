@@ -0,0 +1,22 @@
+package com.back.domain.order.orderItem.dto;
+
+import java.util.Collection;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public record OrderItemQuantitySumDto(
+        int productId,
+        long quantity
+) {
+    // 재고를 돌려놓을 때 잠금 순서가 일정하도록 상품 ID 순으로 정렬
+    public static SortedMap<Integer, Integer> toQuantityByProductId(Collection<OrderItemQuantitySumDto> sums) {
+        return sums.stream()
+                .collect(Collectors.toMap(
+                        OrderItemQuantitySumDto::productId,
+                        sum -> Math.toIntExact(sum.quantity()),
+                        Integer::sum,
+                        TreeMap::new
+                ));
+    }
+}
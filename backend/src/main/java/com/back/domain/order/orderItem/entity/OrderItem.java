@@ -1,9 +1,9 @@
 package com.back.domain.order.orderItem.entity;
 
 import com.back.domain.order.orders.entity.Orders;
-import com.back.global.exception.ServiceException;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,7 +20,7 @@ public class OrderItem extends BaseEntity {
     private int totalPrice;
     private int productId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Orders order;
 
     public OrderItem(Integer quantity, Integer unitPrice,
@@ -37,16 +37,4 @@ public class OrderItem extends BaseEntity {
         this.totalPrice = totalPrice;
         this.productId = productId;
     }
-
-    public void checkCanUpdate(int id) {
-        if(this.getOrder().getUser().getId() != id){
-            throw new ServiceException("403-1", "본인의 주문만 수정할 수 있습니다.");
-        }
-    }
-
-    public void checkCanDelete(int id) {
-        if(this.getOrder().getUser().getId() != id){
-            throw new ServiceException("403-1", "본인의 주문만 삭제할 수 있습니다.");
-        }
-    }
 }
@@ -1,11 +1,14 @@
 package com.back.domain.order.orderItem.repository;
 
+import com.back.domain.order.orderItem.dto.OrderItemDto;
+import com.back.domain.order.orderItem.dto.OrderItemQuantitySumDto;
 import com.back.domain.order.orderItem.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,9 +19,62 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
 
     List<OrderItem> findByOrderId(int orderId);
 
+    boolean existsByIdAndOrderUserId(int id, int userId);
+
+    // 주문 내역 페이지의 아이템을 IN 쿼리 한 번으로 읽는다. 주문 엔티티는 로딩하지 않는다.
+    @Query("""
+            SELECT new com.back.domain.order.orderItem.dto.OrderItemDto(
+                oi.id, oi.createDate, oi.modifyDate, oi.quantity, oi.unitPrice, oi.totalPrice, oi.productId, oi.order.id
+            )
+            FROM OrderItem oi
+            WHERE oi.order.id IN :orderIds
+            ORDER BY oi.id ASC
+            """)
+    List<OrderItemDto> findDtoByOrderIdIn(Collection<Integer> orderIds);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM OrderItem oi WHERE oi.order.id = :orderId")
     void deleteByOrderId(int orderId);
 
+    // 회원 삭제 시 돌려줄 재고를 상품별로 합산. 아직 처리 중인 주문만 대상이다.
+    // 취소된 주문은 재고를 이미 돌려놓았고, 완료된 주문은 출고된 상품이라 돌려놓지 않는다.
+    @Query("""
+            SELECT new com.back.domain.order.orderItem.dto.OrderItemQuantitySumDto(oi.productId, SUM(oi.quantity))
+            FROM OrderItem oi
+            WHERE oi.order.id IN (
+                SELECT o.id
+                FROM Orders o
+                WHERE o.user.id = :userId
+                  AND o.paymentStatus NOT IN (
+                      com.back.domain.order.orders.entity.PaymentStatus.COMPLETED,
+                      com.back.domain.order.orders.entity.PaymentStatus.CANCELED
+                  )
+            )
+            GROUP BY oi.productId
+            """)
+    List<OrderItemQuantitySumDto> sumQuantityGroupByProductIdByUserId(int userId);
+
+    @Query("""
+            SELECT new com.back.domain.order.orderItem.dto.OrderItemQuantitySumDto(oi.productId, SUM(oi.quantity))
+            FROM OrderItem oi
+            WHERE oi.order.id IN :orderIds
+              AND oi.order.paymentStatus NOT IN (
+                  com.back.domain.order.orders.entity.PaymentStatus.COMPLETED,
+                  com.back.domain.order.orders.entity.PaymentStatus.CANCELED
+              )
+            GROUP BY oi.productId
+            """)
+    List<OrderItemQuantitySumDto> sumQuantityGroupByProductIdByOrderIdIn(Collection<Integer> orderIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id IN (SELECT o.id FROM Orders o WHERE o.user.id = :userId)")
+    int deleteByOrderUserId(int userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id IN :orderIds")
+    int deleteByOrderIdIn(Collection<Integer> orderIds);
+
 }
@@ -4,9 +4,15 @@ package com.back.domain.order.orderItem.service;
 import com.back.domain.order.orderItem.entity.OrderItem;
 import com.back.domain.order.orderItem.repository.OrderItemRepository;
 import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.event.OrderChangedEvent;
 import com.back.domain.order.orders.service.OrderService;
+import com.back.domain.order.sales.service.SalesRollupService;
+import com.back.domain.product.product.service.ProductService;
+import com.back.global.export.ExportFormat;
+import com.back.global.export.JdbcExporter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,8 +20,20 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 public class OrderItemService {
+    private static final String EXPORT_SQL = """
+            SELECT id, create_date, modify_date, order_id, product_id, quantity, unit_price, total_price
+            FROM order_item
+            ORDER BY id ASC
+            """;
+    private static final List<String> EXPORT_COLUMNS = List.of(
+            "id", "createDate", "modifyDate", "orderId", "productId", "quantity", "unitPrice", "totalPrice"
+    );
+
     private final OrderItemRepository orderItemRepository;
     private final OrderService orderService;
+    private final ProductService productService;
+    private final SalesRollupService salesRollupService;
+    private final JdbcExporter jdbcExporter;
 
 
     public OrderItem create(int orderId, int quantity, int unitPrice, int productId) {
@@ -24,11 +42,18 @@ public class OrderItemService {
 
         // Order 조회
         Orders order = orderService.findById(orderId).get();
+        order.checkNotCanceled();
+
+        productService.reserveStock(productId, quantity);
 
         OrderItem orderItem = new OrderItem(quantity, unitPrice, totalPrice, productId);
         orderItem.setOrder(order);
 
-        return orderItemRepository.save(orderItem);
+        orderItemRepository.save(orderItem);
+        salesRollupService.addItem(orderItem);
+        orderService.publishChanged(order, OrderChangedEvent.Type.ITEMS_CHANGED);
+
+        return orderItem;
     }
 
     public Optional<OrderItem> findLatest() {
@@ -43,6 +68,10 @@ public class OrderItemService {
         return orderItemRepository.findById(id);
     }
 
+    public StreamingResponseBody export(ExportFormat format) {
+        return jdbcExporter.export(EXPORT_SQL, EXPORT_COLUMNS, format);
+    }
+
     public List<OrderItem> findAll() {
         return orderItemRepository.findAll();
     }
@@ -56,11 +85,31 @@ public class OrderItemService {
     }
 
     public void update(OrderItem orderItem, int quantity, int unitPrice, int productId) {
+        orderItem.getOrder().checkNotCanceled();
+
         int totalPrice = quantity * unitPrice;
+
+        if (orderItem.getProductId() == productId) {
+            int delta = quantity - orderItem.getQuantity();
+
+            if (delta > 0) productService.reserveStock(productId, delta);
+            else if (delta < 0) productService.releaseStock(productId, -delta);
+        } else {
+            productService.reserveStock(productId, quantity);
+            productService.releaseStock(orderItem.getProductId(), orderItem.getQuantity());
+        }
+
+        salesRollupService.removeItem(orderItem);
         orderItem.update(quantity, unitPrice, totalPrice, productId);
+        salesRollupService.addItem(orderItem);
+        orderService.publishChanged(orderItem.getOrder(), OrderChangedEvent.Type.ITEMS_CHANGED);
     }
 
     public void delete(OrderItem orderItem) {
+        if (!orderItem.getOrder().isCanceled())
+            productService.releaseStock(orderItem.getProductId(), orderItem.getQuantity());
+        salesRollupService.removeItem(orderItem);
+        orderService.publishChanged(orderItem.getOrder(), OrderChangedEvent.Type.ITEMS_CHANGED);
         orderItemRepository.delete(orderItem);
     }
 }
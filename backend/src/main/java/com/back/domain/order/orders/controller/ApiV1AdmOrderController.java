@@ -1,17 +1,29 @@
 package com.back.domain.order.orders.controller;
 
 import com.back.domain.order.orders.dto.OrderDto;
+import com.back.domain.order.orders.dto.OrderSearchCondDto;
+import com.back.domain.order.orders.dto.OrderSearchPageDto;
+import com.back.domain.order.orders.dto.OrderWithItemsDto;
 import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.entity.PaymentStatus;
 import com.back.domain.order.orders.service.OrderService;
+import com.back.global.export.ExportFormat;
 import com.back.global.rsData.RsData;
+import com.back.standard.dto.CursorPageDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -42,6 +54,49 @@ public class ApiV1AdmOrderController {
         return orderDtos;
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "주문 내보내기", description = "전체 주문을 id 순으로 CSV(기본) 또는 NDJSON 으로 내려받습니다. 행을 읽는 대로 바로 씁니다.")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "CSV") ExportFormat format
+    ) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName("orders")).build().toString()
+                )
+                .body(orderService.export(format));
+    }
+
+    @GetMapping("/history")
+    @Operation(summary = "주문 내역 조회", description = "주문 아이템을 포함해 최신순으로 조회합니다. userId 를 넘기면 해당 사용자의 주문만 조회합니다.")
+    public CursorPageDto<OrderWithItemsDto> getOrderHistory(
+            @RequestParam(required = false) Integer userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + OrderService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return orderService.findHistoryPage(userId, cursor, size);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "주문 검색", description = "조건에 맞는 주문을 최신순으로 조회합니다. 기간은 yyyy-MM-dd 형식이고 종료일을 포함합니다.")
+    public OrderSearchPageDto search(
+            @RequestParam(required = false) PaymentStatus paymentStatus,
+            @RequestParam(required = false) String paymentMethod,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer userId,
+            @RequestParam(required = false) Integer minTotalPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + OrderService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return orderService.search(
+                new OrderSearchCondDto(paymentStatus, paymentMethod, startDate, endDate, userId, minTotalPrice),
+                cursor,
+                size
+        );
+    }
+
     @GetMapping("/user/{userId}")
     @Operation(summary = "특정 사용자의 주문 목록 조회")
     public List<OrderDto> getOrdersByUserId(@PathVariable int userId) {
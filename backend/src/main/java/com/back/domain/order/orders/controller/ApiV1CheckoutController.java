@@ -0,0 +1,71 @@
+package com.back.domain.order.orders.controller;
+
+import com.back.domain.order.orders.dto.OrderCheckoutLineDto;
+import com.back.domain.order.orders.dto.OrderWithItemsDto;
+import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.service.OrderService;
+import com.back.global.exception.ServiceException;
+import com.back.global.idempotency.Idempotent;
+import com.back.global.rsData.RsData;
+import com.back.global.security.UserSecurityUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/checkout")
+@RequiredArgsConstructor
+@Tag(name = "ApiV1CheckoutController", description = "주문하기 API 컨트롤러")
+@SecurityRequirement(name = "bearerAuth")
+public class ApiV1CheckoutController {
+    private final OrderService orderService;
+
+    record CheckoutReqBody(
+            @NotEmpty
+            @Size(max = 100)
+            List<@Valid OrderCheckoutLineDto> items,
+            @NotBlank
+            @Size(min = 2, max = 100)
+            String paymentMethod,
+            @NotBlank
+            String address
+    ) {
+    }
+
+    @PostMapping
+    @Idempotent
+    @Transactional
+    @Operation(summary = "주문하기", description = "장바구니 상품들로 주문과 주문 아이템을 한 번에 생성합니다. 가격과 합계는 서버에서 계산하고 재고를 차감합니다.")
+    public RsData<OrderWithItemsDto> checkout(
+            @Valid @RequestBody CheckoutReqBody reqBody,
+            @AuthenticationPrincipal UserSecurityUser currentUser
+    ) {
+        if (currentUser == null) throw new ServiceException("401-1", "로그인 후 이용해주세요.");
+
+        Orders order = orderService.checkout(
+                currentUser.getId(),
+                reqBody.items(),
+                reqBody.paymentMethod(),
+                reqBody.address()
+        );
+
+        return new RsData<>(
+                "201-1",
+                "%d번 주문이 생성되었습니다.".formatted(order.getId()),
+                new OrderWithItemsDto(order)
+        );
+    }
+}
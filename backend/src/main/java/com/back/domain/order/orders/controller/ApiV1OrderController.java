@@ -2,10 +2,16 @@ package com.back.domain.order.orders.controller;
 
 
 import com.back.domain.order.orders.dto.OrderDto;
+import com.back.domain.order.orders.dto.OrderWithItemsDto;
 import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.entity.PaymentStatus;
 import com.back.domain.order.orders.service.OrderService;
+import com.back.global.exception.ServiceException;
+import com.back.global.idempotency.Idempotent;
 import com.back.global.rsData.RsData;
+import com.back.global.security.OwnershipChecker;
 import com.back.global.security.UserSecurityUser;
+import com.back.standard.dto.CursorPageDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +33,7 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class ApiV1OrderController {
     private final OrderService orderService;
+    private final OwnershipChecker ownershipChecker;
 
     record OrderCreateReqBody(
             int orderCount,
@@ -34,9 +41,8 @@ public class ApiV1OrderController {
             @NotBlank
             @Size(min = 2, max = 100)
             String paymentMethod,
-            @NotBlank
-            @Size(min = 2, max = 100)
-            String paymentStatus,
+            @NotNull
+            PaymentStatus paymentStatus,
             @NotNull
             int userId,
             @NotBlank
@@ -45,6 +51,7 @@ public class ApiV1OrderController {
     }
 
     @PostMapping
+    @Idempotent
     @Transactional
     @Operation(summary = "주문 생성")
     public RsData<OrderDto> write(
@@ -71,26 +78,31 @@ public class ApiV1OrderController {
     @GetMapping("/my")
     @Operation(summary = "내 주문 목록 조회")
     public List<OrderDto> getMyOrders(@AuthenticationPrincipal UserSecurityUser currentUser) {
+        // 주문마다 사용자를 따로 읽지 않도록 DTO 로 한 번에 조회
+        return orderService.findDtoByUserId(currentUser.getId());
+    }
 
-        List<Orders> orders = orderService.findByUserId(currentUser.getId());
-        List<OrderDto> orderDtos = orders.stream()
-                .map(OrderDto::new)
-                .toList();
+    @GetMapping("/my/history")
+    @Operation(summary = "내 주문 내역 조회", description = "주문 아이템을 포함해 최신순으로 조회합니다. nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+    public CursorPageDto<OrderWithItemsDto> getMyOrderHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + OrderService.DEFAULT_PAGE_SIZE) int size,
+            @AuthenticationPrincipal UserSecurityUser currentUser
+    ) {
+        if (currentUser == null) throw new ServiceException("401-1", "로그인 후 이용해주세요.");
 
-        return orderDtos;
+        return orderService.findHistoryPage(currentUser.getId(), cursor, size);
     }
 
 
-
     record OrderUpdateReqBody(
             int orderCount,
             int totalPrice,
             @NotBlank
             @Size(min = 2, max = 100)
             String paymentMethod,
-            @NotBlank
-            @Size(min = 2, max = 100)
-            String paymentStatus,
+            @NotNull
+            PaymentStatus paymentStatus,
             @NotBlank
             String address
     ) {
@@ -104,9 +116,9 @@ public class ApiV1OrderController {
             @Valid @RequestBody OrderUpdateReqBody reqBody,
             @AuthenticationPrincipal UserSecurityUser currentUser
     ) {
-        Orders order = orderService.findById(id).get();
+        ownershipChecker.checkOrder(id, currentUser, "수정");
 
-        order.checkCanUpdate(currentUser.getId());
+        Orders order = orderService.findById(id).get();
 
         orderService.update(
                 order,
@@ -130,9 +142,9 @@ public class ApiV1OrderController {
             @PathVariable int id,
             @AuthenticationPrincipal UserSecurityUser currentUser
     ) {
-        Orders order = orderService.findById(id).get();
+        ownershipChecker.checkOrder(id, currentUser, "삭제");
 
-        order.checkCanDelete(currentUser.getId());
+        Orders order = orderService.findById(id).get();
 
         orderService.delete(order);
 
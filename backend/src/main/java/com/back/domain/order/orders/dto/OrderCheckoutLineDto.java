@@ -0,0 +1,13 @@
+package com.back.domain.order.orders.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+public record OrderCheckoutLineDto(
+        @Positive
+        int productId,
+        @Positive
+        @Max(1000)
+        int quantity
+) {
+}
@@ -1,6 +1,7 @@
 package com.back.domain.order.orders.dto;
 
 import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.entity.PaymentStatus;
 
 import java.time.LocalDateTime;
 
@@ -11,7 +12,7 @@ public record OrderDto(
         int orderCount,
         int totalPrice,
         String paymentMethod,
-        String paymentStatus,
+        PaymentStatus paymentStatus,
         String address,
         int userId,
         String userName
@@ -0,0 +1,16 @@
+package com.back.domain.order.orders.dto;
+
+import com.back.domain.order.orders.entity.PaymentStatus;
+
+import java.time.LocalDate;
+
+// null 인 조건은 적용하지 않는다. 기간은 startDate 00:00 부터 endDate 다음 날 00:00 전까지
+public record OrderSearchCondDto(
+        PaymentStatus paymentStatus,
+        String paymentMethod,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer userId,
+        Integer minTotalPrice
+) {
+}
@@ -0,0 +1,14 @@
+package com.back.domain.order.orders.dto;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+// totalCount 는 첫 페이지에서만 계산한다. totalCountCapped 가 true 면 실제 건수는 totalCount 보다 많다.
+public record OrderSearchPageDto(
+        @NonNull List<OrderWithItemsDto> items,
+        String nextCursor,
+        Long totalCount,
+        boolean totalCountCapped
+) {
+}
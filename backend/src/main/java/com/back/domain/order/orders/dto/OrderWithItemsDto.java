@@ -0,0 +1,21 @@
+package com.back.domain.order.orders.dto;
+
+import com.back.domain.order.orderItem.dto.OrderItemDto;
+import com.back.domain.order.orders.entity.Orders;
+
+import java.util.List;
+
+public record OrderWithItemsDto(
+        OrderDto order,
+        List<OrderItemDto> orderItems
+) {
+    public OrderWithItemsDto(Orders order) {
+        this(
+                new OrderDto(order),
+                order.getOrderItems()
+                        .stream()
+                        .map(OrderItemDto::new)
+                        .toList()
+        );
+    }
+}
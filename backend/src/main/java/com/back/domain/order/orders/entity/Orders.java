@@ -13,6 +13,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(
+        indexes = {
+                @Index(name = "idx_orders_create_date_id", columnList = "create_date, id"),
+                @Index(name = "idx_orders_user_id_create_date_id", columnList = "user_id, create_date, id"),
+                @Index(name = "idx_orders_payment_status_create_date_id", columnList = "payment_status, create_date, id"),
+                @Index(name = "idx_orders_payment_method_create_date_id", columnList = "payment_method, create_date, id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +28,10 @@ public class Orders extends BaseEntity {
     private int orderCount;
     private int totalPrice;
     private String paymentMethod;
-    private String paymentStatus;
+    // MySQL 에서는 ENUM 컬럼(1바이트)으로 만들어진다.
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PaymentStatus paymentStatus;
     private String address;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,7 +43,7 @@ public class Orders extends BaseEntity {
 
 
 
-    public Orders(int orderCount, int totalPrice, String paymentMethod, String paymentStatus, User user, String address) {
+    public Orders(int orderCount, int totalPrice, String paymentMethod, PaymentStatus paymentStatus, User user, String address) {
         this.orderCount = orderCount;
         this.user = user;
         this.totalPrice = totalPrice;
@@ -41,7 +52,15 @@ public class Orders extends BaseEntity {
         this.address = address;
     }
 
-    public void update(int orderCount, int totalPrice, String paymentMethod, String paymentStatus, String address) {
+    public OrderItem addOrderItem(int quantity, int unitPrice, int productId) {
+        OrderItem orderItem = new OrderItem(quantity, unitPrice, Math.multiplyExact(quantity, unitPrice), productId);
+        orderItem.setOrder(this);
+        orderItems.add(orderItem);
+
+        return orderItem;
+    }
+
+    public void update(int orderCount, int totalPrice, String paymentMethod, PaymentStatus paymentStatus, String address) {
         this.orderCount = orderCount;
         this.totalPrice = totalPrice;
         this.paymentMethod = paymentMethod;
@@ -49,15 +68,14 @@ public class Orders extends BaseEntity {
         this.address = address;
     }
 
-    public void checkCanUpdate(int currentUserId) {
-        if (this.user.getId() != currentUserId) {
-            throw new ServiceException("403-1", "본인의 주문만 수정할 수 있습니다.");
-        }
+    public boolean isCanceled() {
+        return paymentStatus == PaymentStatus.CANCELED;
     }
 
-    public void checkCanDelete(int currentUserId) {
-        if (this.user.getId() != currentUserId) {
-            throw new ServiceException("403-1", "본인의 주문만 삭제할 수 있습니다.");
+    // 취소된 주문은 재고를 이미 돌려놓았으므로 아이템을 바꿀 수 없다.
+    public void checkNotCanceled() {
+        if (isCanceled()) {
+            throw new ServiceException("409-3", "취소된 주문은 변경할 수 없습니다.");
         }
     }
 
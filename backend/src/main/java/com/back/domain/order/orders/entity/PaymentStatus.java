@@ -0,0 +1,8 @@
+package com.back.domain.order.orders.entity;
+
+public enum PaymentStatus {
+    PENDING,
+    COMPLETED,
+    // 결제되지 않은 채 만료되어 재고를 돌려놓은 주문
+    CANCELED
+}
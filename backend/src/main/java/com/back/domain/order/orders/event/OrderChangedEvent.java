@@ -0,0 +1,16 @@
+package com.back.domain.order.orders.event;
+
+// 주문이나 주문 아이템이 바뀌었을 때 outbox 로 발행
+public record OrderChangedEvent(
+        int orderId,
+        int userId,
+        Type type
+) {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        ITEMS_CHANGED,
+        CANCELED,
+        DELETED
+    }
+}
@@ -1,22 +1,120 @@
 package com.back.domain.order.orders.repository;
 
+import com.back.domain.order.orders.dto.OrderDto;
 import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.entity.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Orders, Integer> {
+    boolean existsByIdAndUserId(int id, int userId);
+
     // Additional query methods can be defined here if needed
     Optional<Orders> findFirstByOrderByIdDesc();
 
     List<Orders> findByUserId(int userId);
 
+    // 주문 내역: 사용자 이름까지 DTO 로 한 번에 읽는다. (createDate, id) 키셋 페이지네이션
+    String SELECT_ORDER_DTO = """
+            SELECT new com.back.domain.order.orders.dto.OrderDto(
+                o.id, o.createDate, o.modifyDate, o.orderCount, o.totalPrice,
+                o.paymentMethod, o.paymentStatus, o.address, u.id, u.username
+            )
+            FROM Orders o
+            JOIN o.user u
+            """;
+
+    @Query(SELECT_ORDER_DTO + """
+            ORDER BY o.createDate DESC, o.id DESC
+            """)
+    List<OrderDto> findDtoOrderByCreateDateDesc(Pageable pageable);
+
+    @Query(SELECT_ORDER_DTO + """
+            WHERE o.createDate < :createDate
+               OR (o.createDate = :createDate AND o.id < :id)
+            ORDER BY o.createDate DESC, o.id DESC
+            """)
+    List<OrderDto> findDtoByCreateDateCursorDesc(LocalDateTime createDate, int id, Pageable pageable);
+
+    @Query(SELECT_ORDER_DTO + """
+            WHERE u.id = :userId
+            ORDER BY o.id
+            """)
+    List<OrderDto> findDtoByUserId(int userId);
+
+    @Query(SELECT_ORDER_DTO + """
+            WHERE u.id = :userId
+            ORDER BY o.createDate DESC, o.id DESC
+            """)
+    List<OrderDto> findDtoByUserIdOrderByCreateDateDesc(int userId, Pageable pageable);
+
+    @Query(SELECT_ORDER_DTO + """
+            WHERE u.id = :userId
+              AND (o.createDate < :createDate
+               OR (o.createDate = :createDate AND o.id < :id))
+            ORDER BY o.createDate DESC, o.id DESC
+            """)
+    List<OrderDto> findDtoByUserIdAndCreateDateCursorDesc(int userId, LocalDateTime createDate, int id, Pageable pageable);
+
+    long countByUserId(int userId);
+
+    @Query("SELECT o.id FROM Orders o WHERE o.user.id = :userId ORDER BY o.id ASC")
+    List<Integer> findIdsByUserId(int userId, Pageable pageable);
+
     @Modifying
     @Transactional
     @Query("DELETE FROM Orders o WHERE o.user.id = :userId")
     void deleteByUserId(int userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Orders o WHERE o.id IN :ids")
+    int deleteByIdIn(Collection<Integer> ids);
+
+    long countByPaymentStatusAndCreateDateBefore(PaymentStatus paymentStatus, LocalDateTime createDate);
+
+    // 만료 주문 정리: (payment_status, create_date, id) 인덱스 순서로 읽고 잠근다.
+    // 다른 노드가 잠근 행은 기다리지 않고 건너뛴다. (SKIP LOCKED 를 지원하지 않는 DB 에서는 기다린다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT o
+            FROM Orders o
+            WHERE o.paymentStatus = :paymentStatus
+              AND o.createDate < :createDate
+            ORDER BY o.createDate ASC, o.id ASC
+            """)
+    List<Orders> findForUpdateByPaymentStatusAndCreateDateBefore(PaymentStatus paymentStatus, LocalDateTime createDate, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Orders o
+            SET o.paymentStatus = :paymentStatus, o.modifyDate = :modifyDate
+            WHERE o.id IN :ids
+            """)
+    int updatePaymentStatusByIdIn(Collection<Integer> ids, PaymentStatus paymentStatus, LocalDateTime modifyDate);
+
+    // 아직 취소되지 않은 주문만 취소한다. 행을 잠그므로 만료 정리와 동시에 취소해도 한쪽만 반영된다.
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Orders o
+            SET o.paymentStatus = com.back.domain.order.orders.entity.PaymentStatus.CANCELED, o.modifyDate = :modifyDate
+            WHERE o.id = :id
+              AND o.paymentStatus <> com.back.domain.order.orders.entity.PaymentStatus.CANCELED
+            """)
+    int cancelById(int id, LocalDateTime modifyDate);
 }
@@ -0,0 +1,97 @@
+package com.back.domain.order.orders.repository;
+
+import com.back.domain.order.orders.dto.OrderDto;
+import com.back.domain.order.orders.dto.OrderSearchCondDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 관리자 주문 검색. 넘어온 조건만 WHERE 에 넣어서 (조건 컬럼, create_date, id) 인덱스를 범위 스캔으로 탈 수 있게 한다.
+// (:param IS NULL OR ...) 형태로 한 쿼리에 몰아 넣으면 옵티마이저가 인덱스를 고르지 못한다.
+@Repository
+@RequiredArgsConstructor
+public class OrderSearchRepository {
+    private final EntityManager entityManager;
+
+    private record Filter(String jpql, String sql, String param, Object value) {
+    }
+
+    public List<OrderDto> search(OrderSearchCondDto cond, LocalDateTime cursorCreateDate, int cursorId, int limit) {
+        List<Filter> filters = filters(cond);
+        List<String> clauses = new ArrayList<>(filters.stream().map(Filter::jpql).toList());
+
+        if (cursorCreateDate != null)
+            clauses.add("(o.createDate < :cursorCreateDate OR (o.createDate = :cursorCreateDate AND o.id < :cursorId))");
+
+        String jpql = OrderRepository.SELECT_ORDER_DTO
+                + where(clauses)
+                + " ORDER BY o.createDate DESC, o.id DESC";
+
+        TypedQuery<OrderDto> query = entityManager.createQuery(jpql, OrderDto.class)
+                .setMaxResults(limit);
+        filters.forEach(filter -> query.setParameter(filter.param(), filter.value()));
+
+        if (cursorCreateDate != null) {
+            query.setParameter("cursorCreateDate", cursorCreateDate);
+            query.setParameter("cursorId", cursorId);
+        }
+
+        return query.getResultList();
+    }
+
+    // 건수를 limit 까지만 센다. 조건에 맞는 행이 아무리 많아도 limit 개의 인덱스 항목만 읽고 멈춘다.
+    public long countUpTo(OrderSearchCondDto cond, int limit) {
+        List<Filter> filters = filters(cond);
+
+        String sql = "SELECT COUNT(*) FROM (SELECT 1 FROM orders o"
+                + where(filters.stream().map(Filter::sql).toList())
+                + " LIMIT :limit) t";
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("limit", limit);
+        // 네이티브 쿼리에는 enum 을 이름으로 바인딩
+        filters.forEach(filter -> query.setParameter(
+                filter.param(),
+                filter.value() instanceof Enum<?> value ? value.name() : filter.value()
+        ));
+
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private List<Filter> filters(OrderSearchCondDto cond) {
+        List<Filter> filters = new ArrayList<>();
+
+        if (cond.paymentStatus() != null)
+            filters.add(new Filter("o.paymentStatus = :paymentStatus", "o.payment_status = :paymentStatus", "paymentStatus", cond.paymentStatus()));
+
+        if (cond.paymentMethod() != null)
+            filters.add(new Filter("o.paymentMethod = :paymentMethod", "o.payment_method = :paymentMethod", "paymentMethod", cond.paymentMethod()));
+
+        if (cond.userId() != null)
+            filters.add(new Filter("u.id = :userId", "o.user_id = :userId", "userId", cond.userId()));
+
+        if (cond.startDate() != null)
+            filters.add(new Filter("o.createDate >= :startDateTime", "o.create_date >= :startDateTime", "startDateTime", cond.startDate().atStartOfDay()));
+
+        if (cond.endDate() != null)
+            filters.add(new Filter("o.createDate < :endDateTime", "o.create_date < :endDateTime", "endDateTime", cond.endDate().plusDays(1).atStartOfDay()));
+
+        if (cond.minTotalPrice() != null)
+            filters.add(new Filter("o.totalPrice >= :minTotalPrice", "o.total_price >= :minTotalPrice", "minTotalPrice", cond.minTotalPrice()));
+
+        return filters;
+    }
+
+    private String where(List<String> clauses) {
+        if (clauses.isEmpty()) return "";
+
+        return clauses.stream().collect(Collectors.joining(" AND ", " WHERE ", ""));
+    }
+}
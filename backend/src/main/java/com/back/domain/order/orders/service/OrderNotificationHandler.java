@@ -0,0 +1,26 @@
+package com.back.domain.order.orders.service;
+
+import com.back.domain.order.orders.event.OrderChangedEvent;
+import com.back.global.outbox.OutboxEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 주문 상태 알림. 발송 수단(메일, 푸시)이 붙기 전까지는 로그로 남긴다.
+@Component
+@Slf4j
+public class OrderNotificationHandler implements OutboxEventHandler<OrderChangedEvent> {
+    @Override
+    public Class<OrderChangedEvent> payloadType() {
+        return OrderChangedEvent.class;
+    }
+
+    @Override
+    public void handle(OrderChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> log.info("{}번 회원에게 {}번 주문 접수 알림", event.userId(), event.orderId());
+            case CANCELED -> log.info("{}번 회원에게 {}번 주문 취소 알림", event.userId(), event.orderId());
+            default -> {
+            }
+        }
+    }
+}
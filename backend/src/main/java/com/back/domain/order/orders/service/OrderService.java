@@ -1,28 +1,134 @@
 package com.back.domain.order.orders.service;
 
+import com.back.domain.order.orderItem.dto.OrderItemDto;
+import com.back.domain.order.orderItem.entity.OrderItem;
+import com.back.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.domain.order.orders.dto.OrderCheckoutLineDto;
+import com.back.domain.order.orders.dto.OrderDto;
+import com.back.domain.order.orders.dto.OrderSearchCondDto;
+import com.back.domain.order.orders.dto.OrderSearchPageDto;
+import com.back.domain.order.orders.dto.OrderWithItemsDto;
 import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.entity.PaymentStatus;
+import com.back.domain.order.orders.event.OrderChangedEvent;
 import com.back.domain.order.orders.repository.OrderRepository;
+import com.back.domain.order.orders.repository.OrderSearchRepository;
+import com.back.domain.order.sales.service.SalesRollupService;
+import com.back.domain.product.product.entity.Product;
+import com.back.domain.product.product.service.ProductService;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.service.UserService;
+import com.back.global.exception.ServiceException;
+import com.back.global.export.ExportFormat;
+import com.back.global.export.JdbcExporter;
+import com.back.global.outbox.OutboxEventPublisher;
+import com.back.standard.dto.CursorPageDto;
+import com.back.standard.util.Ut;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int SEARCH_COUNT_LIMIT = 10_000;
+    private static final String EXPORT_SQL = """
+            SELECT o.id, o.create_date, o.modify_date, o.order_count, o.total_price,
+                   o.payment_method, o.payment_status, o.address, o.user_id, u.username
+            FROM orders o
+            LEFT JOIN users u ON u.id = o.user_id
+            ORDER BY o.id ASC
+            """;
+    private static final List<String> EXPORT_COLUMNS = List.of(
+            "id", "createDate", "modifyDate", "orderCount", "totalPrice",
+            "paymentMethod", "paymentStatus", "address", "userId", "username"
+    );
+
     private final OrderRepository orderRepository;
+    private final OrderSearchRepository orderSearchRepository;
+    private final OrderItemRepository orderItemRepository;
     private final UserService userService;
+    private final ProductService productService;
+    private final SalesRollupService salesRollupService;
+    private final JdbcExporter jdbcExporter;
+    private final OutboxEventPublisher outboxEventPublisher;
 
 
-    public Orders create(int orderCount, int totalPrice, String paymentMethod, String paymentStatus, int userId, String address) {
+    public Orders create(int orderCount, int totalPrice, String paymentMethod, PaymentStatus paymentStatus, int userId, String address) {
         User user = userService.findById(userId).get();
 
         Orders order = new Orders(orderCount, totalPrice, paymentMethod, paymentStatus, user, address);
 
-        return orderRepository.save(order);
+        orderRepository.save(order);
+        publishChanged(order, OrderChangedEvent.Type.CREATED);
+
+        return order;
+    }
+
+    // 가격과 합계는 서버에서 계산한다. 상품 조회와 재고 차감은 각각 한 번에 처리하고, 같은 상품이 여러 줄이면 합친다.
+    public Orders checkout(int userId, List<OrderCheckoutLineDto> lines, String paymentMethod, String address) {
+        SortedMap<Integer, Integer> quantityByProductId = lines.stream()
+                .collect(Collectors.toMap(
+                        OrderCheckoutLineDto::productId,
+                        OrderCheckoutLineDto::quantity,
+                        Integer::sum,
+                        TreeMap::new
+                ));
+
+        Map<Integer, Product> productById = productService.findAllByIds(quantityByProductId.keySet())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        quantityByProductId.keySet()
+                .stream()
+                .filter(productId -> !productById.containsKey(productId))
+                .findFirst()
+                .ifPresent(productId -> {
+                    throw new ServiceException("404-2", "%d번 상품이 존재하지 않습니다.".formatted(productId));
+                });
+
+        productService.reserveStocks(quantityByProductId);
+
+        User user = userService.findById(userId).get();
+        Orders order = new Orders(0, 0, paymentMethod, PaymentStatus.PENDING, user, address);
+
+        int orderCount = 0;
+        int totalPrice = 0;
+
+        try {
+            for (Map.Entry<Integer, Integer> entry : quantityByProductId.entrySet()) {
+                Product product = productById.get(entry.getKey());
+                OrderItem orderItem = order.addOrderItem(entry.getValue(), product.getPrice(), product.getId());
+
+                orderCount = Math.addExact(orderCount, orderItem.getQuantity());
+                totalPrice = Math.addExact(totalPrice, orderItem.getTotalPrice());
+            }
+        } catch (ArithmeticException e) {
+            throw new ServiceException("400-2", "주문 금액이 너무 큽니다.");
+        }
+
+        order.setOrderCount(orderCount);
+        order.setTotalPrice(totalPrice);
+
+        orderRepository.save(order);
+        salesRollupService.addOrder(order);
+        publishChanged(order, OrderChangedEvent.Type.CREATED);
+
+        return order;
     }
 
     public Optional<Orders> findLatest() {
@@ -33,21 +139,164 @@ public class OrderService {
         return orderRepository.findById(id);
     }
 
+    public StreamingResponseBody export(ExportFormat format) {
+        return jdbcExporter.export(EXPORT_SQL, EXPORT_COLUMNS, format);
+    }
+
     public List<Orders> findAll() {
         return orderRepository.findAll();
     }
 
+    // 주문 내역: 주문 조회 1번 + 아이템 IN 조회 1번. userId 가 null 이면 전체 주문
+    public CursorPageDto<OrderWithItemsDto> findHistoryPage(Integer userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        OrderCursor orderCursor = decodeCursor(cursor);
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부를 판단
+        List<OrderDto> orders;
+
+        if (orderCursor == null) {
+            orders = userId == null
+                    ? orderRepository.findDtoOrderByCreateDateDesc(pageable)
+                    : orderRepository.findDtoByUserIdOrderByCreateDateDesc(userId, pageable);
+        } else {
+            orders = userId == null
+                    ? orderRepository.findDtoByCreateDateCursorDesc(orderCursor.createDate(), orderCursor.id(), pageable)
+                    : orderRepository.findDtoByUserIdAndCreateDateCursorDesc(userId, orderCursor.createDate(), orderCursor.id(), pageable);
+        }
+
+        boolean hasNext = orders.size() > pageSize;
+        List<OrderDto> pageOrders = hasNext ? orders.subList(0, pageSize) : orders;
+
+        return new CursorPageDto<>(withItems(pageOrders), hasNext ? encodeCursor(pageOrders) : null);
+    }
+
+    // 관리자 주문 검색. 전체 건수는 첫 페이지에서만 SEARCH_COUNT_LIMIT 까지 센다.
+    public OrderSearchPageDto search(OrderSearchCondDto cond, String cursor, int size) {
+        if (cond.startDate() != null && cond.endDate() != null && cond.startDate().isAfter(cond.endDate()))
+            throw new ServiceException("400-2", "조회 시작일이 종료일보다 늦습니다.");
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        OrderCursor orderCursor = decodeCursor(cursor);
+
+        List<OrderDto> orders = orderCursor == null
+                ? orderSearchRepository.search(cond, null, 0, pageSize + 1)
+                : orderSearchRepository.search(cond, orderCursor.createDate(), orderCursor.id(), pageSize + 1);
+
+        boolean hasNext = orders.size() > pageSize;
+        List<OrderDto> pageOrders = hasNext ? orders.subList(0, pageSize) : orders;
+
+        Long totalCount = null;
+        boolean totalCountCapped = false;
+
+        if (orderCursor == null) {
+            long count = orderSearchRepository.countUpTo(cond, SEARCH_COUNT_LIMIT + 1);
+            totalCountCapped = count > SEARCH_COUNT_LIMIT;
+            totalCount = Math.min(count, SEARCH_COUNT_LIMIT);
+        }
 
-    public void update(Orders orders, int orderCount, int totalPrice, String paymentMethod, String paymentStatus, String address) {
+        return new OrderSearchPageDto(
+                withItems(pageOrders),
+                hasNext ? encodeCursor(pageOrders) : null,
+                totalCount,
+                totalCountCapped
+        );
+    }
+
+    private List<OrderWithItemsDto> withItems(List<OrderDto> orders) {
+        if (orders.isEmpty()) return List.of();
+
+        Map<Integer, List<OrderItemDto>> itemsByOrderId = orderItemRepository.findDtoByOrderIdIn(
+                        orders.stream().map(OrderDto::id).toList()
+                )
+                .stream()
+                .collect(Collectors.groupingBy(OrderItemDto::orderId));
+
+        return orders.stream()
+                .map(order -> new OrderWithItemsDto(order, itemsByOrderId.getOrDefault(order.id(), List.of())))
+                .toList();
+    }
+
+    private record OrderCursor(LocalDateTime createDate, int id) {
+    }
+
+    private String encodeCursor(List<OrderDto> pageOrders) {
+        OrderDto last = pageOrders.get(pageOrders.size() - 1);
+
+        return Ut.cursor.encode(last.createDate(), last.id());
+    }
+
+    // 커서가 없으면 null
+    private OrderCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        String[] bits = Ut.cursor.decode(cursor, 2);
+
+        if (bits == null) throw new ServiceException("400-1", "커서가 올바르지 않습니다.");
+
+        try {
+            return new OrderCursor(LocalDateTime.parse(bits[0]), Integer.parseInt(bits[1]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new ServiceException("400-1", "커서가 올바르지 않습니다.");
+        }
+    }
+
+    // 취소된 주문은 재고와 매출 집계를 이미 되돌렸으므로 다시 바꿀 수 없다.
+    public void update(Orders orders, int orderCount, int totalPrice, String paymentMethod, PaymentStatus paymentStatus, String address) {
+        orders.checkNotCanceled();
+
+        boolean canceling = paymentStatus == PaymentStatus.CANCELED;
+
+        if (canceling) cancel(orders);
         orders.update(orderCount, totalPrice, paymentMethod, paymentStatus, address);
+
+        publishChanged(orders, canceling ? OrderChangedEvent.Type.CANCELED : OrderChangedEvent.Type.UPDATED);
+    }
+
+    // 만료 정리와 같은 방식으로 재고를 돌려놓고 매출 집계에서 뺀다.
+    private void cancel(Orders orders) {
+        // 만료 정리가 먼저 취소했으면 재고를 이미 돌려놓았다.
+        if (orderRepository.cancelById(orders.getId(), LocalDateTime.now()) == 0)
+            throw new ServiceException("409-3", "취소된 주문은 변경할 수 없습니다.");
+
+        productService.releaseStocks(
+                orders.getOrderItems()
+                        .stream()
+                        .collect(Collectors.toMap(
+                                OrderItem::getProductId,
+                                OrderItem::getQuantity,
+                                Integer::sum,
+                                TreeMap::new
+                        ))
+        );
+        salesRollupService.removeOrder(orders);
     }
 
     public void delete(Orders order) {
+        // 취소된 주문의 재고는 취소할 때 이미 돌려놓았다.
+        if (!order.isCanceled()) {
+            order.getOrderItems().forEach(orderItem ->
+                    productService.releaseStock(orderItem.getProductId(), orderItem.getQuantity())
+            );
+        }
+
+        salesRollupService.removeOrder(order);
+        publishChanged(order, OrderChangedEvent.Type.DELETED);
         orderRepository.delete(order);
     }
 
+    // 알림 같은 후속 처리는 outbox 를 거쳐 커밋 이후에 따로 실행된다.
+    public void publishChanged(Orders order, OrderChangedEvent.Type type) {
+        outboxEventPublisher.publish(new OrderChangedEvent(order.getId(), order.getUser().getId(), type));
+    }
+
 
     public List<Orders> findByUserId(int i) {
         return orderRepository.findByUserId(i);
     }
+
+    public List<OrderDto> findDtoByUserId(int userId) {
+        return orderRepository.findDtoByUserId(userId);
+    }
 }
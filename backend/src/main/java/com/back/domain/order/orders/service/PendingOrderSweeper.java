@@ -0,0 +1,143 @@
+package com.back.domain.order.orders.service;
+
+import com.back.domain.order.orderItem.dto.OrderItemQuantitySumDto;
+import com.back.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.entity.PaymentStatus;
+import com.back.domain.order.orders.event.OrderChangedEvent;
+import com.back.domain.order.orders.repository.OrderRepository;
+import com.back.domain.order.sales.service.SalesRollupService;
+import com.back.domain.product.product.service.ProductService;
+import com.back.global.outbox.OutboxEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 결제되지 않은 채 오래된 PENDING 주문을 취소하고 잡아둔 재고를 돌려놓는다.
+// 한 번에 batchSize 개씩, 배치마다 짧은 트랜잭션으로 처리한다.
+// 지금 스토어프런트는 결제를 마친 뒤에 PENDING 주문을 만들므로 PENDING 은 결제 대기가 아니다.
+// 결제 확인 전에 주문을 만들고 결제되면 COMPLETED 로 바꾸는 흐름이 생기기 전까지는 주기 실행을 꺼 둔다. (custom.order.pendingExpiry.enabled)
+@Service
+@Slf4j
+public class PendingOrderSweeper {
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ProductService productService;
+    private final SalesRollupService salesRollupService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer batchTimer;
+    private final Counter canceledCounter;
+
+    public PendingOrderSweeper(
+            OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            ProductService productService,
+            SalesRollupService salesRollupService,
+            OutboxEventPublisher outboxEventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${custom.order.pendingExpiry.enabled}") boolean enabled,
+            @Value("${custom.order.pendingExpiry.ttlMinutes}") long ttlMinutes,
+            @Value("${custom.order.pendingExpiry.batchSize}") int batchSize,
+            @Value("${custom.order.pendingExpiry.maxBatchesPerRun}") int maxBatchesPerRun
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.productService = productService;
+        this.salesRollupService = salesRollupService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        Gauge.builder("order.pending.expired.backlog", backlog, AtomicLong::get)
+                .description("만료됐지만 아직 취소되지 않은 주문 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.pending.expiry.batch")
+                .description("만료 주문 한 배치를 취소하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.canceledCounter = Counter.builder("order.pending.expiry.canceled")
+                .description("만료되어 취소한 주문 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.order.pendingExpiry.sweepIntervalMillis}",
+            fixedDelayString = "${custom.order.pendingExpiry.sweepIntervalMillis}"
+    )
+    public void sweep() {
+        if (!enabled) return;
+
+        expire(LocalDateTime.now().minus(ttl));
+    }
+
+    // expiredBefore 이전에 만들어진 PENDING 주문을 취소하고 취소한 주문 수를 반환
+    // 한 번에 maxBatchesPerRun 배치까지만 처리하고 나머지는 다음 실행으로 넘긴다.
+    public int expire(LocalDateTime expiredBefore) {
+        int canceledCount = 0;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer count = batchTimer.record(() -> transactionTemplate.execute(status -> expireBatch(expiredBefore)));
+
+            if (count == null || count == 0) break;
+
+            canceledCount += count;
+
+            if (count < batchSize) break;
+        }
+
+        canceledCounter.increment(canceledCount);
+        backlog.set(orderRepository.countByPaymentStatusAndCreateDateBefore(PaymentStatus.PENDING, expiredBefore));
+
+        if (canceledCount > 0)
+            log.info("만료 주문 {}건 취소, 남은 만료 주문 {}건", canceledCount, backlog.get());
+
+        return canceledCount;
+    }
+
+    private int expireBatch(LocalDateTime expiredBefore) {
+        List<Orders> orders = orderRepository
+                .findForUpdateByPaymentStatusAndCreateDateBefore(PaymentStatus.PENDING, expiredBefore, PageRequest.ofSize(batchSize));
+
+        if (orders.isEmpty()) return 0;
+
+        List<Integer> orderIds = orders.stream().map(Orders::getId).toList();
+
+        productService.releaseStocks(
+                OrderItemQuantitySumDto.toQuantityByProductId(
+                        orderItemRepository.sumQuantityGroupByProductIdByOrderIdIn(orderIds)
+                )
+        );
+
+        salesRollupService.removeOrders(orderIds);
+        outboxEventPublisher.publishAll(
+                orders.stream()
+                        .map(order -> new OrderChangedEvent(order.getId(), order.getUser().getId(), OrderChangedEvent.Type.CANCELED))
+                        .toList()
+        );
+
+        return orderRepository.updatePaymentStatusByIdIn(orderIds, PaymentStatus.CANCELED, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.domain.order.sales.controller;
+
+import com.back.domain.order.sales.dto.BestSellerDto;
+import com.back.domain.order.sales.dto.SalesPeriodDto;
+import com.back.domain.order.sales.dto.SalesPeriodUnit;
+import com.back.domain.order.sales.service.SalesRollupService;
+import com.back.global.rsData.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/adm/sales")
+@RequiredArgsConstructor
+@Tag(name = "ApiV1AdmSalesController", description = "관리자용 매출 통계 API 컨트롤러")
+@SecurityRequirement(name = "bearerAuth")
+public class ApiV1AdmSalesController {
+    private final SalesRollupService salesRollupService;
+
+    @GetMapping("/revenue")
+    @Operation(summary = "기간별 매출 조회", description = "unit 은 DAY, WEEK(월요일 시작), MONTH 입니다. 기간은 yyyy-MM-dd 형식이고 종료일을 포함합니다.")
+    public List<SalesPeriodDto> getRevenue(
+            @RequestParam(defaultValue = "DAY") SalesPeriodUnit unit,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        return salesRollupService.findRevenue(unit, startDate, endDate);
+    }
+
+    @GetMapping("/best-sellers")
+    @Operation(summary = "베스트셀러 조회", description = "기간 안에 많이 팔린 상품을 판매 수량 순으로 조회합니다.")
+    public List<BestSellerDto> getBestSellers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "" + SalesRollupService.DEFAULT_BEST_SELLER_LIMIT) int limit
+    ) {
+        return salesRollupService.findBestSellers(startDate, endDate, limit);
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "매출 집계 재생성", description = "기간 안의 매출 집계를 주문 내역에서 하루씩 다시 만듭니다.")
+    public RsData<Integer> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        int days = salesRollupService.rebuild(startDate, endDate);
+
+        return new RsData<>(
+                "200-1",
+                "%d일의 매출 집계를 다시 만들었습니다.".formatted(days),
+                days
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.domain.order.sales.dto;
+
+public record BestSellerDto(
+        int productId,
+        String productName,
+        long quantity,
+        long revenue
+) {
+}
@@ -0,0 +1,15 @@
+package com.back.domain.order.sales.dto;
+
+import java.time.LocalDate;
+
+// 집계 테이블에 더할 값. 빼야 할 때는 음수로 넣는다.
+public record SalesDeltaDto(
+        LocalDate salesDate,
+        int productId,
+        long quantity,
+        long revenue
+) {
+    public SalesDeltaDto negate() {
+        return new SalesDeltaDto(salesDate, productId, -quantity, -revenue);
+    }
+}
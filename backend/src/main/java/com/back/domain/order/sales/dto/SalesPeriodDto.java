@@ -0,0 +1,10 @@
+package com.back.domain.order.sales.dto;
+
+import java.time.LocalDate;
+
+public record SalesPeriodDto(
+        LocalDate startDate,
+        long quantity,
+        long revenue
+) {
+}
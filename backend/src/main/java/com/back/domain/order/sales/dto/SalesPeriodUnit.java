@@ -0,0 +1,27 @@
+package com.back.domain.order.sales.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public enum SalesPeriodUnit {
+    DAY,
+    // 월요일 시작
+    WEEK,
+    MONTH;
+
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate next(LocalDate startDate) {
+        return switch (this) {
+            case DAY -> startDate.plusDays(1);
+            case WEEK -> startDate.plusWeeks(1);
+            case MONTH -> startDate.plusMonths(1);
+        };
+    }
+}
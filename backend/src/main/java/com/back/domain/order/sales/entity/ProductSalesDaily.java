@@ -0,0 +1,38 @@
+package com.back.domain.order.sales.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+// 상품별 일 매출 집계. SalesRollupRepository 가 JDBC 로 누적하고, 스키마 관리만 JPA 에 맡긴다.
+@Entity
+@Table(
+        name = "product_sales_daily",
+        indexes = @Index(name = "idx_product_sales_daily_sales_date", columnList = "sales_date, product_id, quantity, revenue")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSalesDaily {
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+        private int productId;
+        private LocalDate salesDate;
+    }
+}
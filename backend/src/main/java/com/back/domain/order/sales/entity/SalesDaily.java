@@ -0,0 +1,27 @@
+package com.back.domain.order.sales.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 전체 일 매출 집계. 기간별 매출은 이 테이블의 날짜 수만큼만 읽는다.
+@Entity
+@Table(name = "sales_daily")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDaily {
+    @Id
+    private LocalDate salesDate;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    @Column(nullable = false)
+    private long revenue;
+}
@@ -0,0 +1,224 @@
+package com.back.domain.order.sales.repository;
+
+import com.back.domain.order.sales.dto.BestSellerDto;
+import com.back.domain.order.sales.dto.SalesDeltaDto;
+import com.back.domain.order.sales.dto.SalesPeriodDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// 매출 집계 테이블(product_sales_daily, sales_daily)은 주문 아이템이 바뀔 때마다 증감분을 더해서 유지한다.
+// 같은 키에 동시에 더해도 값이 유실되지 않도록 INSERT ... ON DUPLICATE KEY UPDATE 로 누적한다.
+// 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다.
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepository {
+    private static final String SUM_BY_ORDER = """
+            SELECT CAST(o.create_date AS DATE) AS sales_date, oi.product_id,
+                   SUM(oi.quantity) AS quantity, SUM(oi.total_price) AS revenue
+            FROM order_item oi
+            JOIN orders o ON o.id = oi.order_id
+            WHERE %s
+              AND o.payment_status <> 'CANCELED'
+            GROUP BY CAST(o.create_date AS DATE), oi.product_id
+            """;
+
+    private static final RowMapper<SalesDeltaDto> SALES_DELTA_ROW_MAPPER = (rs, rowNum) -> new SalesDeltaDto(
+            rs.getDate("sales_date").toLocalDate(),
+            rs.getInt("product_id"),
+            rs.getLong("quantity"),
+            rs.getLong("revenue")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void add(Collection<SalesDeltaDto> deltas) {
+        // 잠금 순서가 일정하도록 (날짜, 상품) 순으로 합쳐서 보낸다.
+        SortedMap<LocalDate, SortedMap<Integer, long[]>> byDateAndProduct = new TreeMap<>();
+
+        for (SalesDeltaDto delta : deltas) {
+            long[] sum = byDateAndProduct
+                    .computeIfAbsent(delta.salesDate(), date -> new TreeMap<>())
+                    .computeIfAbsent(delta.productId(), productId -> new long[2]);
+            sum[0] += delta.quantity();
+            sum[1] += delta.revenue();
+        }
+
+        List<SalesDeltaDto> productDeltas = new ArrayList<>();
+        List<SalesPeriodDto> dailyDeltas = new ArrayList<>();
+
+        byDateAndProduct.forEach((date, byProduct) -> {
+            long quantity = 0;
+            long revenue = 0;
+
+            for (Map.Entry<Integer, long[]> entry : byProduct.entrySet()) {
+                long[] sum = entry.getValue();
+                if (sum[0] == 0 && sum[1] == 0) continue;
+
+                productDeltas.add(new SalesDeltaDto(date, entry.getKey(), sum[0], sum[1]));
+                quantity += sum[0];
+                revenue += sum[1];
+            }
+
+            if (quantity != 0 || revenue != 0) dailyDeltas.add(new SalesPeriodDto(date, quantity, revenue));
+        });
+
+        if (productDeltas.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(
+                """
+                        INSERT INTO product_sales_daily (sales_date, product_id, quantity, revenue) VALUES (?, ?, ?, ?)
+                        ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), revenue = revenue + VALUES(revenue)
+                        """,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        SalesDeltaDto delta = productDeltas.get(i);
+                        ps.setDate(1, Date.valueOf(delta.salesDate()));
+                        ps.setInt(2, delta.productId());
+                        ps.setLong(3, delta.quantity());
+                        ps.setLong(4, delta.revenue());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return productDeltas.size();
+                    }
+                }
+        );
+
+        jdbcTemplate.batchUpdate(
+                """
+                        INSERT INTO sales_daily (sales_date, quantity, revenue) VALUES (?, ?, ?)
+                        ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), revenue = revenue + VALUES(revenue)
+                        """,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        SalesPeriodDto delta = dailyDeltas.get(i);
+                        ps.setDate(1, Date.valueOf(delta.startDate()));
+                        ps.setLong(2, delta.quantity());
+                        ps.setLong(3, delta.revenue());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return dailyDeltas.size();
+                    }
+                }
+        );
+    }
+
+    // 주문들이 집계에 더했던 값. 지우거나 취소하기 전에 읽어서 빼는 데 쓴다.
+    public List<SalesDeltaDto> sumByOrderIdIn(Collection<Integer> orderIds) {
+        if (orderIds.isEmpty()) return List.of();
+
+        return namedParameterJdbcTemplate.query(
+                SUM_BY_ORDER.formatted("o.id IN (:orderIds)"),
+                Map.of("orderIds", orderIds),
+                SALES_DELTA_ROW_MAPPER
+        );
+    }
+
+    public List<SalesDeltaDto> sumByUserId(int userId) {
+        return namedParameterJdbcTemplate.query(
+                SUM_BY_ORDER.formatted("o.user_id = :userId"),
+                Map.of("userId", userId),
+                SALES_DELTA_ROW_MAPPER
+        );
+    }
+
+    // 하루치 집계를 주문 아이템에서 다시 만든다. 주문은 (create_date, id) 인덱스로 그날 것만 읽는다.
+    public void rebuild(LocalDate date) {
+        Date salesDate = Date.valueOf(date);
+
+        jdbcTemplate.update("DELETE FROM product_sales_daily WHERE sales_date = ?", salesDate);
+        jdbcTemplate.update("DELETE FROM sales_daily WHERE sales_date = ?", salesDate);
+
+        jdbcTemplate.update(
+                """
+                        INSERT INTO product_sales_daily (sales_date, product_id, quantity, revenue)
+                        SELECT CAST(? AS DATE), oi.product_id, SUM(oi.quantity), SUM(oi.total_price)
+                        FROM orders o
+                        JOIN order_item oi ON oi.order_id = o.id
+                        WHERE o.create_date >= ?
+                          AND o.create_date < ?
+                          AND o.payment_status <> 'CANCELED'
+                        GROUP BY oi.product_id
+                        """,
+                salesDate,
+                Timestamp.valueOf(date.atStartOfDay()),
+                Timestamp.valueOf(date.plusDays(1).atStartOfDay())
+        );
+
+        jdbcTemplate.update(
+                """
+                        INSERT INTO sales_daily (sales_date, quantity, revenue)
+                        SELECT sales_date, SUM(quantity), SUM(revenue)
+                        FROM product_sales_daily
+                        WHERE sales_date = ?
+                        GROUP BY sales_date
+                        """,
+                salesDate
+        );
+    }
+
+    public List<SalesPeriodDto> findDaily(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(
+                """
+                        SELECT sales_date, quantity, revenue
+                        FROM sales_daily
+                        WHERE sales_date BETWEEN ? AND ?
+                        ORDER BY sales_date ASC
+                        """,
+                (rs, rowNum) -> new SalesPeriodDto(
+                        rs.getDate("sales_date").toLocalDate(),
+                        rs.getLong("quantity"),
+                        rs.getLong("revenue")
+                ),
+                Date.valueOf(startDate),
+                Date.valueOf(endDate)
+        );
+    }
+
+    // 기간 안의 (날짜, 상품) 집계 행만 읽으므로 주문 수와 상관없이 상품 수 x 일 수에 비례한다.
+    public List<BestSellerDto> findBestSellers(LocalDate startDate, LocalDate endDate, int limit) {
+        return jdbcTemplate.query(
+                """
+                        SELECT ps.product_id, p.name, SUM(ps.quantity) AS quantity, SUM(ps.revenue) AS revenue
+                        FROM product_sales_daily ps
+                        LEFT JOIN product p ON p.id = ps.product_id
+                        WHERE ps.sales_date BETWEEN ? AND ?
+                        GROUP BY ps.product_id, p.name
+                        HAVING SUM(ps.quantity) > 0
+                        ORDER BY SUM(ps.quantity) DESC, SUM(ps.revenue) DESC, ps.product_id ASC
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new BestSellerDto(
+                        rs.getInt("product_id"),
+                        rs.getString("name"),
+                        rs.getLong("quantity"),
+                        rs.getLong("revenue")
+                ),
+                Date.valueOf(startDate),
+                Date.valueOf(endDate),
+                limit
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package com.back.domain.order.sales.service;
+
+import com.back.domain.order.orderItem.entity.OrderItem;
+import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.sales.dto.BestSellerDto;
+import com.back.domain.order.sales.dto.SalesDeltaDto;
+import com.back.domain.order.sales.dto.SalesPeriodDto;
+import com.back.domain.order.sales.dto.SalesPeriodUnit;
+import com.back.domain.order.sales.repository.SalesRollupRepository;
+import com.back.global.exception.ServiceException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// 취소되지 않은 주문의 아이템을 주문일 기준으로 상품별·일별로 집계한다.
+// 주문 아이템을 바꾸는 쪽에서 같은 트랜잭션 안에 증감분을 넘겨준다.
+@Service
+public class SalesRollupService {
+    public static final int DEFAULT_BEST_SELLER_LIMIT = 10;
+    public static final int MAX_BEST_SELLER_LIMIT = 100;
+    public static final long MAX_PERIOD_DAYS = 366L * 10;
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesRollupService(SalesRollupRepository salesRollupRepository, PlatformTransactionManager transactionManager) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void addItem(OrderItem orderItem) {
+        apply(orderItem.getOrder(), List.of(orderItem), 1);
+    }
+
+    public void removeItem(OrderItem orderItem) {
+        apply(orderItem.getOrder(), List.of(orderItem), -1);
+    }
+
+    public void addOrder(Orders order) {
+        apply(order, order.getOrderItems(), 1);
+    }
+
+    public void removeOrder(Orders order) {
+        apply(order, order.getOrderItems(), -1);
+    }
+
+    // 문장 단위로 지우거나 취소하는 주문은 DB 에서 합계를 읽어 뺀다. 지우기 전에 호출해야 한다.
+    public void removeOrders(Collection<Integer> orderIds) {
+        salesRollupRepository.add(negate(salesRollupRepository.sumByOrderIdIn(orderIds)));
+    }
+
+    public void removeUserOrders(int userId) {
+        salesRollupRepository.add(negate(salesRollupRepository.sumByUserId(userId)));
+    }
+
+    // 집계를 처음 만들거나 어긋났을 때 주문 아이템에서 다시 만든다. 잠금을 오래 잡지 않도록 하루씩 커밋한다.
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        checkPeriod(startDate, endDate);
+
+        int days = 0;
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            LocalDate salesDate = date;
+            transactionTemplate.executeWithoutResult(status -> salesRollupRepository.rebuild(salesDate));
+            days++;
+        }
+
+        return days;
+    }
+
+    // 매출이 없는 기간도 0 으로 채워서 돌려준다. 시작일이 속한 주·월부터 센다.
+    public List<SalesPeriodDto> findRevenue(SalesPeriodUnit unit, LocalDate startDate, LocalDate endDate) {
+        checkPeriod(startDate, endDate);
+
+        SortedMap<LocalDate, long[]> byPeriod = new TreeMap<>();
+
+        for (LocalDate periodStart = unit.startOf(startDate); !periodStart.isAfter(endDate); periodStart = unit.next(periodStart)) {
+            byPeriod.put(periodStart, new long[2]);
+        }
+
+        for (SalesPeriodDto daily : salesRollupRepository.findDaily(startDate, endDate)) {
+            long[] sum = byPeriod.get(unit.startOf(daily.startDate()));
+            sum[0] += daily.quantity();
+            sum[1] += daily.revenue();
+        }
+
+        return byPeriod.entrySet()
+                .stream()
+                .map(entry -> new SalesPeriodDto(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .toList();
+    }
+
+    public List<BestSellerDto> findBestSellers(LocalDate startDate, LocalDate endDate, int limit) {
+        checkPeriod(startDate, endDate);
+
+        return salesRollupRepository.findBestSellers(startDate, endDate, Math.clamp(limit, 1, MAX_BEST_SELLER_LIMIT));
+    }
+
+    private void apply(Orders order, Collection<OrderItem> orderItems, int sign) {
+        if (order.isCanceled() || orderItems.isEmpty()) return;
+
+        LocalDate salesDate = order.getCreateDate() == null ? LocalDate.now() : order.getCreateDate().toLocalDate();
+
+        salesRollupRepository.add(
+                orderItems.stream()
+                        .map(orderItem -> new SalesDeltaDto(
+                                salesDate,
+                                orderItem.getProductId(),
+                                (long) sign * orderItem.getQuantity(),
+                                (long) sign * orderItem.getTotalPrice()
+                        ))
+                        .toList()
+        );
+    }
+
+    private List<SalesDeltaDto> negate(List<SalesDeltaDto> deltas) {
+        return deltas.stream().map(SalesDeltaDto::negate).toList();
+    }
+
+    private void checkPeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate))
+            throw new ServiceException("400-2", "조회 시작일이 종료일보다 늦습니다.");
+
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS)
+            throw new ServiceException("400-3", "조회 기간은 %d일을 넘을 수 없습니다.".formatted(MAX_PERIOD_DAYS));
+    }
+}
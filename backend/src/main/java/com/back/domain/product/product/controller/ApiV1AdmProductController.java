@@ -1,7 +1,10 @@
 package com.back.domain.product.product.controller;
 
 import com.back.domain.product.product.dto.ProductDto;
+import com.back.domain.product.product.dto.ProductImportFormat;
+import com.back.domain.product.product.dto.ProductImportResultDto;
 import com.back.domain.product.product.entity.Product;
+import com.back.domain.product.product.service.ProductImportService;
 import com.back.domain.product.product.service.ProductService;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,9 +16,14 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/v1/adm/products")
 @RequiredArgsConstructor
@@ -23,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "bearerAuth")
 public class ApiV1AdmProductController {
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     record ProductCreateReqBody(
             @NotBlank
@@ -57,6 +66,24 @@ public class ApiV1AdmProductController {
         );
     }
 
+    // 청크마다 따로 커밋하므로 메서드 전체를 트랜잭션으로 묶지 않는다.
+    @PostMapping(value = "/import", consumes = {ProductImportFormat.CSV_VALUE, ProductImportFormat.NDJSON_VALUE})
+    @Operation(summary = "대량 등록", description = "CSV(헤더 필수) 또는 NDJSON 본문을 한 줄씩 읽어 등록합니다. 잘못된 줄은 건너뛰고 결과에 담습니다.")
+    public RsData<ProductImportResultDto> importItems(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        ProductImportResultDto result = productImportService.importProducts(
+                body,
+                ProductImportFormat.from(MediaType.parseMediaType(contentType))
+        );
+
+        return new RsData<>(
+                "200-1",
+                "%d건 중 %d건의 상품이 등록되었습니다.".formatted(result.totalCount(), result.importedCount()),
+                result
+        );
+    }
 
     @DeleteMapping("/{id}")
     @Transactional
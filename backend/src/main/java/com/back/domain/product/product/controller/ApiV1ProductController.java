@@ -1,17 +1,15 @@
 package com.back.domain.product.product.controller;
 
-import com.back.domain.product.product.dto.ProductDto;
+import com.back.domain.product.product.dto.ProductSort;
 import com.back.domain.product.product.dto.ProductWithImageUrlDto;
-import com.back.domain.product.product.entity.Product;
+import com.back.domain.product.product.service.ProductCatalogVersion;
 import com.back.domain.product.product.service.ProductService;
+import com.back.standard.dto.CursorPageDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,23 +19,42 @@ import java.util.List;
 @Tag(name = "ApiV1ProductController", description = "API 상품 컨트롤러")
 public class ApiV1ProductController {
     private final ProductService productService;
+    private final ProductCatalogVersion productCatalogVersion;
 
     @GetMapping
-    @Transactional(readOnly = true)
-    @Operation(summary = "다건 조회")
-    public List<ProductWithImageUrlDto> getItems() {
-        List<Product> items = productService.findAll();
-
-        return items.stream()
-                .map(ProductWithImageUrlDto::new)
-                .toList();
+    @Operation(summary = "다건 조회", description = "nextCursor 를 cursor 로 넘기면 다음 페이지를 조회합니다.")
+    public CursorPageDto<ProductWithImageUrlDto> getItems(
+            @RequestParam(defaultValue = "LATEST") ProductSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ProductService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest
+    ) {
+        // If-None-Match 가 현재 카탈로그 버전과 같으면 조회 없이 304
+        if (webRequest.checkNotModified(productCatalogVersion.getETag())) return null;
+
+        return productService.findPage(sort, cursor, size);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "검색", description = "상품명과 설명에서 검색어와 관련도가 높은 순으로 조회합니다.")
+    public List<ProductWithImageUrlDto> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + ProductService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(productCatalogVersion.getETag())) return null;
+
+        return productService.search(q, size);
     }
 
     @GetMapping("/{id}")
-    @Transactional(readOnly = true)
     @Operation(summary = "단건 조회")
-    public ProductWithImageUrlDto getItem(@PathVariable int id) {
-        Product product = productService.findById(id).get();
-        return new ProductWithImageUrlDto(product);
+    public ProductWithImageUrlDto getItem(@PathVariable int id, WebRequest webRequest) {
+        ProductWithImageUrlDto product = productService.findWithImageUrlById(id).get();
+
+        // 재고는 카탈로그 버전에 들어가지 않으므로 ETag 에 함께 넣는다.
+        if (webRequest.checkNotModified(productCatalogVersion.getETag(product.stock()))) return null;
+
+        return product;
     }
 }
@@ -0,0 +1,15 @@
+package com.back.domain.product.product.dto;
+
+import org.springframework.http.MediaType;
+
+public enum ProductImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String CSV_VALUE = "text/csv";
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static ProductImportFormat from(MediaType mediaType) {
+        return mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE)) ? NDJSON : CSV;
+    }
+}
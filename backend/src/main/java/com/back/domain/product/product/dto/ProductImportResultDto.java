@@ -0,0 +1,17 @@
+package com.back.domain.product.product.dto;
+
+import java.util.List;
+
+public record ProductImportResultDto(
+        long totalCount,
+        long importedCount,
+        long failedCount,
+        // 응답이 파일 크기에 비례해 커지지 않도록 앞쪽 일부만 담는다.
+        List<RowError> errors
+) {
+    public record RowError(
+            long lineNumber,
+            String msg
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.domain.product.product.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+// 대량 등록 파일의 한 줄. 검증 규칙은 단건 등록(ApiV1AdmProductController.ProductCreateReqBody)과 같다.
+public record ProductImportRowDto(
+        @NotBlank
+        @Size(min = 2, max = 100)
+        String name,
+        @Min(100)
+        @Max(1000000)
+        int price,
+        @NotBlank
+        @Size(min = 2, max = 500)
+        String description,
+        @Min(1)
+        @Max(10000)
+        int stock,
+        @NotBlank
+        String imageUrl
+) {
+}
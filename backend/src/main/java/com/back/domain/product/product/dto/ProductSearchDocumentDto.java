@@ -0,0 +1,8 @@
+package com.back.domain.product.product.dto;
+
+public record ProductSearchDocumentDto(
+        int id,
+        String name,
+        String description
+) {
+}
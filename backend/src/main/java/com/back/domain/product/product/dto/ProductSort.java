@@ -0,0 +1,7 @@
+package com.back.domain.product.product.dto;
+
+public enum ProductSort {
+    LATEST,     // (createDate, id) 내림차순
+    PRICE_ASC,  // (price, id) 오름차순
+    PRICE_DESC  // (price, id) 내림차순
+}
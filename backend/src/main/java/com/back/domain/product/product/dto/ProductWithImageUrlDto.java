@@ -1,6 +1,5 @@
 package com.back.domain.product.product.dto;
 
-import com.back.domain.product.product.entity.Product;
 import org.springframework.lang.NonNull;
 
 import java.time.LocalDateTime;
@@ -13,17 +12,9 @@ public record ProductWithImageUrlDto(
         @NonNull int price,
         @NonNull String description,
         @NonNull int stock,
-        @NonNull String imageUrl
+        String imageUrl,
+        // 크기별 이미지가 아직 없으면 원본 URL
+        String thumbnailUrl,
+        String listImageUrl
 ){
-    public ProductWithImageUrlDto(Product product) {
-        this(product.getId(),
-                product.getCreateDate(),
-                product.getModifyDate(),
-                product.getName(),
-                product.getPrice(),
-                product.getDescription(),
-                product.getStock(),
-                product.getProductImages().get(0).getUrl()
-        );
-    }
 }
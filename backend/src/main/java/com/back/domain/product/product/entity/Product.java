@@ -2,18 +2,23 @@ package com.back.domain.product.product.entity;
 
 import com.back.domain.product.productImage.entity.ProductImage;
 import com.back.global.jpa.entity.BaseEntity;
-import jakarta.persistence.CascadeType;
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Entity
+@Table(
+        indexes = {
+                @Index(name = "idx_product_create_date_id", columnList = "create_date, id"),
+                @Index(name = "idx_product_price_id", columnList = "price, id")
+        }
+)
+@DynamicUpdate // 변경된 컬럼만 UPDATE 해서 상품 정보 수정이 동시에 차감된 재고를 덮어쓰지 않도록
 @Getter
 @NoArgsConstructor
 public class Product extends BaseEntity {
@@ -0,0 +1,7 @@
+package com.back.domain.product.product.event;
+
+// 상품 또는 상품 이미지가 생성/수정/삭제되었을 때 발행
+public record ProductChangedEvent(
+        int productId
+) {
+}
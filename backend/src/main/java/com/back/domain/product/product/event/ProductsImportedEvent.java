@@ -0,0 +1,7 @@
+package com.back.domain.product.product.event;
+
+// 대량 등록 후 한 번만 발행. 상품마다 ProductChangedEvent 를 내면 색인 갱신이 건건이 쿼리를 날리게 된다.
+public record ProductsImportedEvent(
+        long importedCount
+) {
+}
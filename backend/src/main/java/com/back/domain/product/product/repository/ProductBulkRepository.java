@@ -0,0 +1,182 @@
+package com.back.domain.product.product.repository;
+
+import com.back.domain.product.product.dto.ProductImportRowDto;
+import com.back.domain.product.product.entity.Product;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+// IDENTITY 키를 쓰는 엔티티는 Hibernate 가 INSERT 를 배치로 묶지 못하므로 대량 등록은 JDBC 배치로 직접 넣는다.
+// pooled-id 프로필에서는 id 를 시퀀스에서 미리 받아 두므로 JPA 로 저장해도 hibernate.jdbc.batch_size 단위로 묶인다.
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${custom.jpa.pooledId}")
+    private boolean pooledId;
+
+    // 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다.
+    public void insertAll(List<ProductImportRowDto> rows) {
+        if (pooledId) persistAll(rows);
+        else batchInsertAll(rows);
+    }
+
+    // 대상 행을 id 순으로 잠근 뒤 전부 충분할 때만 한 번의 배치로 차감한다.
+    // 하나라도 부족하면(또는 없으면) 아무것도 차감하지 않고 그 상품 id 들을 돌려준다. 호출하는 쪽의 트랜잭션 안에서 실행되어야 한다.
+    public List<Integer> decreaseStocks(Map<Integer, Integer> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) return List.of();
+
+        List<Map.Entry<Integer, Integer>> entries = List.copyOf(quantityByProductId.entrySet());
+
+        Map<Integer, Integer> stockByProductId = lockStocks(quantityByProductId.keySet());
+
+        List<Integer> outOfStockProductIds = entries.stream()
+                .filter(entry -> stockByProductId.getOrDefault(entry.getKey(), 0) < entry.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (!outOfStockProductIds.isEmpty()) return outOfStockProductIds;
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(
+                "UPDATE product SET stock = stock - ? WHERE id = ? AND stock >= ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<Integer, Integer> entry = entries.get(i);
+                        ps.setInt(1, entry.getValue());
+                        ps.setInt(2, entry.getKey());
+                        ps.setInt(3, entry.getValue());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                }
+        );
+
+        return IntStream.range(0, updateCounts.length)
+                .filter(i -> updateCounts[i] == 0)
+                .mapToObj(i -> entries.get(i).getKey())
+                .toList();
+    }
+
+    private Map<Integer, Integer> lockStocks(Collection<Integer> productIds) {
+        String placeholders = String.join(", ", Collections.nCopies(productIds.size(), "?"));
+        Map<Integer, Integer> stockByProductId = new HashMap<>();
+
+        jdbcTemplate.query(
+                "SELECT id, stock FROM product WHERE id IN (%s) ORDER BY id FOR UPDATE".formatted(placeholders),
+                rs -> {
+                    stockByProductId.put(rs.getInt("id"), rs.getInt("stock"));
+                },
+                productIds.toArray()
+        );
+
+        return stockByProductId;
+    }
+
+    // 주문 취소·삭제로 돌려받는 재고를 한 번의 배치로 되돌린다. 삭제된 상품은 건너뛴다.
+    public void increaseStocks(Map<Integer, Integer> quantityByProductId) {
+        List<Map.Entry<Integer, Integer>> entries = List.copyOf(quantityByProductId.entrySet());
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE product SET stock = stock + ? WHERE id = ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<Integer, Integer> entry = entries.get(i);
+                        ps.setInt(1, entry.getValue());
+                        ps.setInt(2, entry.getKey());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return entries.size();
+                    }
+                }
+        );
+    }
+
+    private void persistAll(List<ProductImportRowDto> rows) {
+        for (ProductImportRowDto row : rows) {
+            Product product = new Product(row.name(), row.price(), row.description(), row.stock());
+            product.addProductImage(row.imageUrl());
+            entityManager.persist(product);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void batchInsertAll(List<ProductImportRowDto> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(
+                        "INSERT INTO product (create_date, modify_date, name, price, description, stock) VALUES (?, ?, ?, ?, ?, ?)",
+                        new String[]{"id"}
+                ),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ProductImportRowDto row = rows.get(i);
+                        ps.setTimestamp(1, now);
+                        ps.setTimestamp(2, now);
+                        ps.setString(3, row.name());
+                        ps.setInt(4, row.price());
+                        ps.setString(5, row.description());
+                        ps.setInt(6, row.stock());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Integer> productIds = keyHolder.getKeyList()
+                .stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).intValue())
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_image (create_date, modify_date, url, product_id) VALUES (?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setTimestamp(1, now);
+                        ps.setTimestamp(2, now);
+                        ps.setString(3, rows.get(i).imageUrl());
+                        ps.setInt(4, productIds.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                }
+        );
+    }
+}
@@ -1,10 +1,110 @@
 package com.back.domain.product.product.repository;
 
+import com.back.domain.product.product.dto.ProductSearchDocumentDto;
+import com.back.domain.product.product.dto.ProductWithImageUrlDto;
 import com.back.domain.product.product.entity.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
+    // 상품과 대표 이미지(가장 먼저 등록된 이미지)를 한 번의 쿼리로 읽는다. (이미지 지연 로딩으로 인한 N+1 방지)
+    String SELECT_WITH_IMAGE_URL = """
+            SELECT new com.back.domain.product.product.dto.ProductWithImageUrlDto(
+                p.id, p.createDate, p.modifyDate, p.name, p.price, p.description, p.stock, pi.url,
+                COALESCE(pi.thumbnailUrl, pi.url), COALESCE(pi.listUrl, pi.url)
+            )
+            FROM Product p
+            LEFT JOIN p.productImages pi
+                   ON pi.id = (SELECT MIN(pi2.id) FROM ProductImage pi2 WHERE pi2.product = p)
+            """;
+
     Optional<Product> findFirstByOrderByIdDesc();
+
+    @Query(SELECT_WITH_IMAGE_URL + """
+            WHERE p.id = :id
+            """)
+    Optional<ProductWithImageUrlDto> findWithImageUrlById(int id);
+
+    @Query(SELECT_WITH_IMAGE_URL + """
+            WHERE p.id IN :ids
+            """)
+    List<ProductWithImageUrlDto> findWithImageUrlByIdIn(Collection<Integer> ids);
+
+    @Query("""
+            SELECT new com.back.domain.product.product.dto.ProductSearchDocumentDto(p.id, p.name, p.description)
+            FROM Product p
+            """)
+    List<ProductSearchDocumentDto> findAllSearchDocuments();
+
+    @Query("""
+            SELECT new com.back.domain.product.product.dto.ProductSearchDocumentDto(p.id, p.name, p.description)
+            FROM Product p
+            WHERE p.id = :id
+            """)
+    Optional<ProductSearchDocumentDto> findSearchDocumentById(int id);
+
+    // 키셋 페이지네이션: OFFSET 없이 마지막으로 본 (정렬키, id) 다음부터 읽는다.
+    @Query(SELECT_WITH_IMAGE_URL + """
+            ORDER BY p.createDate DESC, p.id DESC
+            """)
+    List<ProductWithImageUrlDto> findWithImageUrlOrderByCreateDateDesc(Pageable pageable);
+
+    @Query(SELECT_WITH_IMAGE_URL + """
+            WHERE p.createDate < :createDate
+               OR (p.createDate = :createDate AND p.id < :id)
+            ORDER BY p.createDate DESC, p.id DESC
+            """)
+    List<ProductWithImageUrlDto> findWithImageUrlByCreateDateCursorDesc(LocalDateTime createDate, int id, Pageable pageable);
+
+    @Query(SELECT_WITH_IMAGE_URL + """
+            ORDER BY p.price ASC, p.id ASC
+            """)
+    List<ProductWithImageUrlDto> findWithImageUrlOrderByPriceAsc(Pageable pageable);
+
+    @Query(SELECT_WITH_IMAGE_URL + """
+            WHERE p.price > :price
+               OR (p.price = :price AND p.id > :id)
+            ORDER BY p.price ASC, p.id ASC
+            """)
+    List<ProductWithImageUrlDto> findWithImageUrlByPriceCursorAsc(int price, int id, Pageable pageable);
+
+    @Query(SELECT_WITH_IMAGE_URL + """
+            ORDER BY p.price DESC, p.id DESC
+            """)
+    List<ProductWithImageUrlDto> findWithImageUrlOrderByPriceDesc(Pageable pageable);
+
+    @Query(SELECT_WITH_IMAGE_URL + """
+            WHERE p.price < :price
+               OR (p.price = :price AND p.id < :id)
+            ORDER BY p.price DESC, p.id DESC
+            """)
+    List<ProductWithImageUrlDto> findWithImageUrlByPriceCursorDesc(int price, int id, Pageable pageable);
+
+    // 재고가 충분할 때만 차감한다. 읽고-수정하고-쓰기 대신 조건부 UPDATE 한 번이라 행 잠금은 이 문장 동안만 잡힌다.
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Product p
+            SET p.stock = p.stock - :quantity
+            WHERE p.id = :id
+              AND p.stock >= :quantity
+            """)
+    int decreaseStock(int id, int quantity);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Product p
+            SET p.stock = p.stock + :quantity
+            WHERE p.id = :id
+            """)
+    int increaseStock(int id, int quantity);
 }
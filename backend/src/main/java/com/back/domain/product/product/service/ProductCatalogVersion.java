@@ -0,0 +1,35 @@
+package com.back.domain.product.product.service;
+
+import com.back.domain.product.product.event.ProductChangedEvent;
+import com.back.domain.product.product.event.ProductsImportedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 카탈로그 전체 버전. 상품이 바뀔 때마다 커밋 이후에 올라가며 조회 API 의 ETag 로 쓰인다.
+// 주문으로 재고만 바뀌는 건 버전을 올리지 않는다. (단건 조회는 재고를 ETag 에 섞어서 따로 구분한다.)
+@Component
+public class ProductCatalogVersion {
+    // 재시작 후 같은 버전 번호가 다른 내용을 가리키지 않도록 기동 시각을 함께 쓴다.
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(ProductChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(ProductsImportedEvent event) {
+        version.incrementAndGet();
+    }
+
+    public String getETag() {
+        return "\"%s-%d\"".formatted(epoch, version.get());
+    }
+
+    public String getETag(int stock) {
+        return "\"%s-%d-%d\"".formatted(epoch, version.get(), stock);
+    }
+}
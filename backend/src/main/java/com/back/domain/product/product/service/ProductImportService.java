@@ -0,0 +1,215 @@
+package com.back.domain.product.product.service;
+
+import com.back.domain.product.product.dto.ProductImportFormat;
+import com.back.domain.product.product.dto.ProductImportResultDto;
+import com.back.domain.product.product.dto.ProductImportRowDto;
+import com.back.domain.product.product.event.ProductsImportedEvent;
+import com.back.domain.product.product.repository.ProductBulkRepository;
+import com.back.global.cache.CacheConfig;
+import com.back.global.exception.ServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 본문을 한 줄씩 읽어 CHUNK_SIZE 단위로 저장한다. 메모리에는 현재 청크와 앞쪽 일부 오류만 남는다.
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+    public static final int CHUNK_SIZE = 1000;
+    public static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<String> CSV_COLUMNS = List.of("name", "price", "description", "stock", "imageUrl");
+
+    private final ProductBulkRepository productBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
+    })
+    public ProductImportResultDto importProducts(InputStream inputStream, ProductImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ImportProgress progress = new ImportProgress();
+
+        try {
+            Map<String, Integer> csvColumnIndexes = null;
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) line = line.substring(1);
+                if (line.isBlank()) continue;
+
+                if (format == ProductImportFormat.CSV && csvColumnIndexes == null) {
+                    csvColumnIndexes = parseCsvHeader(line);
+                    continue;
+                }
+
+                progress.totalCount++;
+
+                ProductImportRowDto row;
+
+                try {
+                    row = format == ProductImportFormat.CSV
+                            ? parseCsvRow(line, csvColumnIndexes)
+                            : objectMapper.readValue(line, ProductImportRowDto.class);
+                } catch (IllegalArgumentException | JsonProcessingException e) {
+                    progress.fail(lineNumber, "형식이 올바르지 않습니다.");
+                    continue;
+                }
+
+                Set<ConstraintViolation<ProductImportRowDto>> violations = validator.validate(row);
+
+                if (!violations.isEmpty()) {
+                    progress.fail(lineNumber, toMessage(violations));
+                    continue;
+                }
+
+                progress.add(lineNumber, row);
+
+                if (progress.chunk.size() == CHUNK_SIZE) flush(progress);
+            }
+
+            flush(progress);
+        } finally {
+            if (progress.importedCount > 0)
+                applicationEventPublisher.publishEvent(new ProductsImportedEvent(progress.importedCount));
+        }
+
+        return new ProductImportResultDto(
+                progress.totalCount,
+                progress.importedCount,
+                progress.failedCount,
+                progress.errors
+        );
+    }
+
+    private void flush(ImportProgress progress) {
+        if (progress.chunk.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> productBulkRepository.insertAll(progress.chunk));
+            progress.importedCount += progress.chunk.size();
+        } catch (DataAccessException e) {
+            progress.chunkLineNumbers.forEach(lineNumber -> progress.fail(lineNumber, "저장에 실패했습니다."));
+        }
+
+        progress.chunk.clear();
+        progress.chunkLineNumbers.clear();
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> header = parseCsvLine(line).stream().map(String::trim).toList();
+        Map<String, Integer> columnIndexes = new HashMap<>();
+
+        for (String column : CSV_COLUMNS) {
+            int index = header.indexOf(column);
+
+            if (index == -1)
+                throw new ServiceException("400-1", "CSV 헤더에 %s 컬럼이 없습니다.".formatted(column));
+
+            columnIndexes.put(column, index);
+        }
+
+        return columnIndexes;
+    }
+
+    private ProductImportRowDto parseCsvRow(String line, Map<String, Integer> columnIndexes) {
+        List<String> fields = parseCsvLine(line);
+
+        if (fields.size() <= Collections.max(columnIndexes.values()))
+            throw new IllegalArgumentException("컬럼 수가 부족합니다.");
+
+        return new ProductImportRowDto(
+                fields.get(columnIndexes.get("name")),
+                Integer.parseInt(fields.get(columnIndexes.get("price")).trim()),
+                fields.get(columnIndexes.get("description")),
+                Integer.parseInt(fields.get(columnIndexes.get("stock")).trim()),
+                fields.get(columnIndexes.get("imageUrl")).trim()
+        );
+    }
+
+    // RFC 4180 형식. 한 줄씩 읽으므로 따옴표 안의 줄바꿈은 지원하지 않는다.
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') field.append(c);
+                else if (i + 1 < line.length() && line.charAt(i + 1) == '"') field.append(line.charAt(++i));
+                else quoted = false;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    // GlobalExceptionHandler 의 검증 오류 메시지와 같은 "필드-코드-메시지" 형식
+    private static String toMessage(Set<ConstraintViolation<ProductImportRowDto>> violations) {
+        return violations.stream()
+                .map(violation -> {
+                    String[] messageTemplateBits = violation.getMessageTemplate().split("\\.");
+                    String code = messageTemplateBits[messageTemplateBits.length - 2];
+
+                    return "%s-%s-%s".formatted(violation.getPropertyPath(), code, violation.getMessage());
+                })
+                .sorted()
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static class ImportProgress {
+        private final List<ProductImportRowDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Long> chunkLineNumbers = new ArrayList<>(CHUNK_SIZE);
+        private final List<ProductImportResultDto.RowError> errors = new ArrayList<>();
+        private long totalCount;
+        private long importedCount;
+        private long failedCount;
+
+        private void add(long lineNumber, ProductImportRowDto row) {
+            chunk.add(row);
+            chunkLineNumbers.add(lineNumber);
+        }
+
+        private void fail(long lineNumber, String msg) {
+            failedCount++;
+
+            if (errors.size() < MAX_REPORTED_ERRORS)
+                errors.add(new ProductImportResultDto.RowError(lineNumber, msg));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.back.domain.product.product.service;
+
+import com.back.domain.product.product.dto.ProductSearchDocumentDto;
+import com.back.domain.product.product.event.ProductChangedEvent;
+import com.back.domain.product.product.event.ProductsImportedEvent;
+import com.back.domain.product.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// 상품명/설명에 대한 메모리 역색인. 기동 시 전체를 색인하고, 이후에는 변경된 상품만 다시 색인한다.
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_RATIO = 0.5;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 토큰 -> (상품 id -> 가중 빈도). 정렬된 맵이라 접두어 검색을 범위 조회로 처리할 수 있다.
+    private NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    // 상품 id -> 색인된 토큰. 수정/삭제 시 기존 색인을 걷어내는 데 쓴다.
+    private Map<Integer, Set<String>> tokensByProduct = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        NavigableMap<String, Map<Integer, Integer>> newPostings = new TreeMap<>();
+        Map<Integer, Set<String>> newTokensByProduct = new HashMap<>();
+
+        for (ProductSearchDocumentDto document : productRepository.findAllSearchDocuments()) {
+            add(newPostings, newTokensByProduct, document);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            tokensByProduct = newTokensByProduct;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handle(ProductChangedEvent event) {
+        Optional<ProductSearchDocumentDto> document = productRepository.findSearchDocumentById(event.productId());
+
+        lock.writeLock().lock();
+        try {
+            remove(postings, tokensByProduct, event.productId());
+            document.ifPresent(it -> add(postings, tokensByProduct, it));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(ProductsImportedEvent event) {
+        rebuild();
+    }
+
+    // 관련도 순으로 정렬된 상품 id 목록
+    public List<Integer> search(String query, int limit) {
+        Set<String> queryTokens = new LinkedHashSet<>(tokenize(query, true));
+
+        if (queryTokens.isEmpty()) return List.of();
+
+        Map<Integer, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(tokensByProduct.size(), 1);
+
+            for (String token : queryTokens) {
+                accumulate(scores, postings.get(token), documentCount, 1);
+
+                // 라틴 문자는 입력 중인 단어도 찾을 수 있도록 접두어 일치를 낮은 가중치로 더한다.
+                if (token.length() >= 2 && !isHangul(token.charAt(0))) {
+                    postings.subMap(token, false, token + Character.MAX_VALUE, false)
+                            .values()
+                            .forEach(posting -> accumulate(scores, posting, documentCount, PREFIX_MATCH_RATIO));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet()
+                .stream()
+                .sorted(
+                        Map.Entry.<Integer, Double>comparingByValue().reversed()
+                                .thenComparing(Map.Entry.comparingByKey())
+                )
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static void accumulate(Map<Integer, Double> scores, Map<Integer, Integer> posting, int documentCount, double ratio) {
+        if (posting == null || posting.isEmpty()) return;
+
+        double idf = Math.log(1 + (double) documentCount / posting.size());
+
+        posting.forEach((productId, frequency) -> scores.merge(productId, ratio * idf * frequency, Double::sum));
+    }
+
+    private static void add(
+            NavigableMap<String, Map<Integer, Integer>> postings,
+            Map<Integer, Set<String>> tokensByProduct,
+            ProductSearchDocumentDto document
+    ) {
+        Map<String, Integer> frequencies = new HashMap<>();
+
+        tokenize(document.name(), false).forEach(token -> frequencies.merge(token, NAME_WEIGHT, Integer::sum));
+        tokenize(document.description(), false).forEach(token -> frequencies.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+
+        frequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(document.id(), frequency)
+        );
+        tokensByProduct.put(document.id(), frequencies.keySet());
+    }
+
+    private static void remove(
+            NavigableMap<String, Map<Integer, Integer>> postings,
+            Map<Integer, Set<String>> tokensByProduct,
+            int productId
+    ) {
+        Set<String> tokens = tokensByProduct.remove(productId);
+
+        if (tokens == null) return;
+
+        for (String token : tokens) {
+            Map<Integer, Integer> posting = postings.get(token);
+
+            if (posting == null) continue;
+
+            posting.remove(productId);
+
+            if (posting.isEmpty()) postings.remove(token);
+        }
+    }
+
+    // 라틴 문자/숫자는 단어 단위, 한글은 형태소 분석 없이 음절 바이그램으로 자른다.
+    // 색인할 때는 한 글자 검색도 되도록 한글 유니그램을 함께 넣는다.
+    static List<String> tokenize(String text, boolean forQuery) {
+        if (text == null || text.isBlank()) return List.of();
+
+        String normalized = normalize(text);
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        StringBuilder hangul = new StringBuilder();
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+
+            if (isHangul(c)) {
+                flushWord(word, tokens);
+                hangul.append(c);
+            } else if (Character.isLetterOrDigit(c)) {
+                flushHangul(hangul, tokens, forQuery);
+                word.append(c);
+            } else {
+                flushWord(word, tokens);
+                flushHangul(hangul, tokens, forQuery);
+            }
+        }
+
+        flushWord(word, tokens);
+        flushHangul(hangul, tokens, forQuery);
+
+        return tokens;
+    }
+
+    // 소문자화 + 발음 구별 기호 제거 (Nariñó -> narino). 한글은 NFC 로 다시 조합된다.
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.isEmpty()) return;
+
+        tokens.add(word.toString());
+        word.setLength(0);
+    }
+
+    private static void flushHangul(StringBuilder hangul, List<String> tokens, boolean forQuery) {
+        if (hangul.isEmpty()) return;
+
+        if (hangul.length() == 1 || !forQuery) {
+            for (int i = 0; i < hangul.length(); i++) {
+                tokens.add(String.valueOf(hangul.charAt(i)));
+            }
+        }
+
+        for (int i = 0; i + 1 < hangul.length(); i++) {
+            tokens.add(hangul.substring(i, i + 2));
+        }
+
+        hangul.setLength(0);
+    }
+}
@@ -1,27 +1,61 @@
 package com.back.domain.product.product.service;
 
+import com.back.domain.product.product.dto.ProductSort;
+import com.back.domain.product.product.dto.ProductWithImageUrlDto;
 import com.back.domain.product.product.entity.Product;
+import com.back.domain.product.product.event.ProductChangedEvent;
+import com.back.domain.product.product.repository.ProductBulkRepository;
 import com.back.domain.product.product.repository.ProductRepository;
 import com.back.domain.product.productImage.entity.ProductImage;
+import com.back.global.cache.CacheConfig;
+import com.back.global.exception.ServiceException;
+import com.back.standard.dto.CursorPageDto;
+import com.back.standard.util.Ut;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
+    private final ProductBulkRepository productBulkRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ProductSearchIndex productSearchIndex;
+    private final CacheManager cacheManager;
 
 
     public Optional<Product> findLatest() {
         return productRepository.findFirstByOrderByIdDesc();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
     public Product create(String name, int price, String description, int stock) {
-        Product product = new Product(name, price, description, stock);
-        return productRepository.save(product);
+        Product product = productRepository.save(new Product(name, price, description, stock));
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        return product;
     }
 
     public Optional<Product> findById(int productId) {
@@ -36,27 +70,186 @@ public class ProductService {
         return productRepository.findAll();
     }
 
+    public List<Product> findAllByIds(Collection<Integer> ids) {
+        return productRepository.findAllById(ids);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_DETAIL, unless = "#result == null")
+    public Optional<ProductWithImageUrlDto> findWithImageUrlById(int productId) {
+        return productRepository.findWithImageUrlById(productId);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_PAGE)
+    public CursorPageDto<ProductWithImageUrlDto> findPage(ProductSort sort, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부를 판단
+        List<ProductWithImageUrlDto> products = findPageItems(sort, cursor, PageRequest.ofSize(pageSize + 1));
+
+        boolean hasNext = products.size() > pageSize;
+        List<ProductWithImageUrlDto> items = hasNext ? products.subList(0, pageSize) : products;
+        String nextCursor = hasNext ? genCursor(sort, items.get(items.size() - 1)) : null;
+
+        return new CursorPageDto<>(List.copyOf(items), nextCursor);
+    }
+
+    public List<ProductWithImageUrlDto> search(String query, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<Integer> ids = productSearchIndex.search(query, limit);
+
+        if (ids.isEmpty()) return List.of();
+
+        Map<Integer, ProductWithImageUrlDto> products = productRepository.findWithImageUrlByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ProductWithImageUrlDto::id, Function.identity()));
+
+        // 검색 순위 유지
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<ProductWithImageUrlDto> findPageItems(ProductSort sort, String cursor, Pageable pageable) {
+        if (cursor == null || cursor.isBlank()) {
+            return switch (sort) {
+                case LATEST -> productRepository.findWithImageUrlOrderByCreateDateDesc(pageable);
+                case PRICE_ASC -> productRepository.findWithImageUrlOrderByPriceAsc(pageable);
+                case PRICE_DESC -> productRepository.findWithImageUrlOrderByPriceDesc(pageable);
+            };
+        }
+
+        String[] bits = Ut.cursor.decode(cursor, 3);
+
+        if (bits == null || !bits[0].equals(sort.name()))
+            throw new ServiceException("400-1", "커서가 올바르지 않습니다.");
+
+        try {
+            int id = Integer.parseInt(bits[2]);
+
+            return switch (sort) {
+                case LATEST -> productRepository.findWithImageUrlByCreateDateCursorDesc(LocalDateTime.parse(bits[1]), id, pageable);
+                case PRICE_ASC -> productRepository.findWithImageUrlByPriceCursorAsc(Integer.parseInt(bits[1]), id, pageable);
+                case PRICE_DESC -> productRepository.findWithImageUrlByPriceCursorDesc(Integer.parseInt(bits[1]), id, pageable);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new ServiceException("400-1", "커서가 올바르지 않습니다.");
+        }
+    }
+
+    private String genCursor(ProductSort sort, ProductWithImageUrlDto last) {
+        Object sortKey = switch (sort) {
+            case LATEST -> last.createDate();
+            case PRICE_ASC, PRICE_DESC -> last.price();
+        };
+
+        return Ut.cursor.encode(sort.name(), sortKey, last.id());
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#product.id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
+    })
     public void delete(Product product) {
         productRepository.delete(product);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#product.id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
+    })
     public void modify(Product product, String name, int price, String description, int stock) {
         product.modify(name, price, description, stock);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#product.id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
+    })
     public void deleteProductImage(Product product, ProductImage productImage) {
         product.deleteProductImage(productImage);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#product.id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
+    })
     public ProductImage createProductImage(Product product, String url) {
-        return product.addProductImage(url);
+        ProductImage productImage = product.addProductImage(url);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        return productImage;
+    }
+
+    // 재고만 바뀐 경우에는 해당 상품 단건 캐시만 비운다. 목록 캐시와 카탈로그 버전은 그대로 둔다. (목록의 재고는 캐시 만료 시간만큼 늦게 반영될 수 있다.)
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId")
+    public void reserveStock(int productId, int quantity) {
+        if (productRepository.decreaseStock(productId, quantity) == 0) {
+            if (!productRepository.existsById(productId))
+                throw new ServiceException("404-2", "%d번 상품이 존재하지 않습니다.".formatted(productId));
+
+            throw new ServiceException("409-1", "%d번 상품의 재고가 부족합니다.".formatted(productId));
+        }
+    }
+
+    // 여러 상품을 한 번에 차감한다. 모든 상품의 재고를 먼저 확인하므로 하나라도 부족하면 어떤 상품도 차감되지 않는다.
+    // 정렬된 맵(상품 id 순)을 넘겨서 동시 주문끼리 같은 순서로 잠그도록 한다.
+    public void reserveStocks(SortedMap<Integer, Integer> quantityByProductId) {
+        List<Integer> outOfStockProductIds = productBulkRepository.decreaseStocks(quantityByProductId);
+
+        if (!outOfStockProductIds.isEmpty())
+            throw new ServiceException("409-1", "%d번 상품의 재고가 부족합니다.".formatted(outOfStockProductIds.getFirst()));
+
+        evictDetails(quantityByProductId.keySet());
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productId")
+    public void releaseStock(int productId, int quantity) {
+        // 이미 삭제된 상품이면 갱신되는 행 없이 넘어간다.
+        productRepository.increaseStock(productId, quantity);
+    }
+
+    // 여러 상품의 재고를 한 번에 되돌린다. 차감할 때와 같은 순서로 잠그도록 상품 id 순으로 정렬된 맵을 넘긴다.
+    public void releaseStocks(SortedMap<Integer, Integer> quantityByProductId) {
+        if (quantityByProductId.isEmpty()) return;
+
+        productBulkRepository.increaseStocks(quantityByProductId);
+
+        evictDetails(quantityByProductId.keySet());
+    }
+
+    // 여러 키를 지우는 건 어노테이션으로 표현할 수 없어서 직접 비운다. (트랜잭션 안이면 커밋된 뒤에 반영된다.)
+    private void evictDetails(Collection<Integer> productIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCT_DETAIL);
+
+        if (cache == null) return;
+
+        productIds.forEach(cache::evict);
     }
 
     public void flush() {
         productRepository.flush();
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productImage.product.id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
+    })
     public void modifyProductImage(ProductImage productImage, String url) {
         productImage.modify(url);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(productImage.getProduct().getId()));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL, key = "#productImage.product.id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUCT_PAGE, allEntries = true)
+    })
+    public void modifyProductImageVariants(ProductImage productImage, String thumbnailUrl, String listUrl, String detailUrl) {
+        productImage.modifyVariants(thumbnailUrl, listUrl, detailUrl);
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(productImage.getProduct().getId()));
     }
 }
@@ -4,13 +4,21 @@ import com.back.domain.product.product.entity.Product;
 import com.back.domain.product.product.service.ProductService;
 import com.back.domain.product.productImage.dto.ProductImageDto;
 import com.back.domain.product.productImage.entity.ProductImage;
+import com.back.domain.product.productImage.service.ProductImageStorage;
+import com.back.domain.product.productImage.service.ProductImageVariantPipeline;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequestMapping("/api/v1/adm/products/{productId}/images")
@@ -19,6 +27,8 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "bearerAuth")
 public class ApiV1AdmProductImageController {
     private final ProductService productService;
+    private final ProductImageStorage productImageStorage;
+    private final ProductImageVariantPipeline productImageVariantPipeline;
 
     @DeleteMapping("/{id}")
     @Transactional
@@ -57,6 +67,43 @@ public class ApiV1AdmProductImageController {
         );
     }
 
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Transactional
+    @Operation(summary = "파일 업로드로 생성", description = "내용 해시를 파일명으로 저장하고, 그 URL 로 상품 이미지를 등록합니다. 크기별 이미지는 등록 후 백그라운드에서 만들어집니다.")
+    public RsData<ProductImageDto> upload(
+            @PathVariable int productId,
+            @RequestParam MultipartFile file
+    ) throws IOException {
+        Product product = productService.findById(productId).get();
+
+        productImageVariantPipeline.reserveSlot();
+
+        String url;
+        ProductImage productImage;
+
+        try {
+            try (InputStream inputStream = file.getInputStream()) {
+                url = productImageStorage.store(inputStream, StringUtils.getFilenameExtension(file.getOriginalFilename()));
+            }
+
+            productImage = productService.createProductImage(product, url);
+
+            productService.flush();
+        } catch (IOException | RuntimeException e) {
+            productImageVariantPipeline.releaseSlot();
+            throw e;
+        }
+
+        // 이후에 롤백되면 파이프라인이 자리를 돌려준다.
+        productImageVariantPipeline.request(productId, productImage.getId(), url);
+
+        return new RsData<>(
+                "201-1",
+                "%d번 상품 이미지가 등록되었습니다.".formatted(productImage.getId()),
+                new ProductImageDto(productImage)
+        );
+    }
+
 
     record ProductImageUpdateReqBody(String url) {}
 
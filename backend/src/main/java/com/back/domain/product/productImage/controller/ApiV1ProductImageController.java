@@ -1,6 +1,7 @@
 package com.back.domain.product.productImage.controller;
 
 import com.back.domain.product.product.entity.Product;
+import com.back.domain.product.product.service.ProductCatalogVersion;
 import com.back.domain.product.product.service.ProductService;
 import com.back.domain.product.productImage.dto.ProductImageDto;
 import com.back.domain.product.productImage.entity.ProductImage;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,11 +23,14 @@ import java.util.List;
 @Tag(name = "ApiV1ProductImageController", description = "API 상품 이미지 컨트롤러")
 public class ApiV1ProductImageController {
     private final ProductService productService;
+    private final ProductCatalogVersion productCatalogVersion;
 
     @GetMapping
     @Transactional(readOnly = true)
     @Operation(summary = "다건 조회")
-    public List<ProductImageDto> getItems(@PathVariable int productId) {
+    public List<ProductImageDto> getItems(@PathVariable int productId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(productCatalogVersion.getETag())) return null;
+
         Product product = productService.findById(productId).get();
 
         return product.getProductImages().stream()
@@ -36,7 +41,9 @@ public class ApiV1ProductImageController {
     @GetMapping("/{id}")
     @Transactional(readOnly = true)
     @Operation(summary = "단건 조회")
-    public ProductImageDto getItem(@PathVariable int productId, @PathVariable int id) {
+    public ProductImageDto getItem(@PathVariable int productId, @PathVariable int id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(productCatalogVersion.getETag())) return null;
+
         Product product = productService.findById(productId).get();
         ProductImage productImage = product.findProductImageById(id).get();
 
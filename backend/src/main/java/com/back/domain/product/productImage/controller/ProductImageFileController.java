@@ -0,0 +1,117 @@
+package com.back.domain.product.productImage.controller;
+
+import com.back.domain.product.productImage.service.ProductImageStorage;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 지문이 붙은 상품 이미지 파일 전송. 지문이 없는 기존 /images/** 경로는 기본 정적 리소스 핸들러가 그대로 처리한다.
+@Controller
+@RequiredArgsConstructor
+@Hidden
+public class ProductImageFileController {
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // 단일 구간만 지원한다. 여러 구간 요청은 전체 응답으로 대신한다. (RFC 9110 에서 허용)
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d{0,18})-(\\d{0,18})$");
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ProductImageStorage productImageStorage;
+
+    @GetMapping(ProductImageStorage.URL_PATH_PREFIX + "{fileName:[0-9a-f]{64}\\.[a-z]+}")
+    public void serve(
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        ProductImageStorage.StoredImage image = productImageStorage.find(fileName).get();
+
+        response.setHeader(HttpHeaders.ETAG, image.eTag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), image.eTag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = image.size();
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        Matcher rangeMatcher = range == null ? null : RANGE_PATTERN.matcher(range.trim());
+
+        if (rangeMatcher != null && rangeMatcher.matches() && (ifRange == null || ifRange.equals(image.eTag()))) {
+            String first = rangeMatcher.group(1);
+            String last = rangeMatcher.group(2);
+
+            if (!first.isEmpty() || !last.isEmpty()) {
+                if (first.isEmpty()) {
+                    start = Math.max(length - Long.parseLong(last), 0);
+                } else {
+                    start = Long.parseLong(first);
+                    if (!last.isEmpty()) end = Math.min(Long.parseLong(last), length - 1);
+                }
+
+                if (start >= length || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(length));
+                    return;
+                }
+
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, length));
+            }
+        }
+
+        response.setContentType(image.mediaType().toString());
+        response.setContentLengthLong(end - start + 1);
+
+        if ("HEAD".equals(request.getMethod())) return;
+
+        // 톰캣이 sendfile 을 지원하면 응답 본문을 쓰지 않고 파일 구간만 넘긴다. 전송은 서블릿이 끝난 뒤 커널에서 이루어진다.
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) return false;
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+                .anyMatch(it -> it.equals("*") || it.equals(eTag));
+    }
+}
@@ -10,6 +10,9 @@ public record ProductImageDto(
         @NonNull LocalDateTime createDate,
         @NonNull LocalDateTime modifyDate,
         @NonNull String url,
+        String thumbnailUrl,
+        String listUrl,
+        String detailUrl,
         @NonNull int productId
 ){
     public ProductImageDto(ProductImage productImage) {
@@ -18,6 +21,9 @@ public record ProductImageDto(
                 productImage.getCreateDate(),
                 productImage.getModifyDate(),
                 productImage.getUrl(),
+                productImage.getThumbnailUrl(),
+                productImage.getListUrl(),
+                productImage.getDetailUrl(),
                 productImage.getProduct().getId()
         );
     }
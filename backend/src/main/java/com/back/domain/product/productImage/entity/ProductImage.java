@@ -15,6 +15,16 @@ public class ProductImage extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String url;
 
+    // 업로드한 원본으로 만든 크기별 이미지. 아직 만들기 전이거나 URL 로 등록한 이미지는 null
+    @Column(columnDefinition = "TEXT")
+    private String thumbnailUrl;
+
+    @Column(columnDefinition = "TEXT")
+    private String listUrl;
+
+    @Column(columnDefinition = "TEXT")
+    private String detailUrl;
+
     @ManyToOne
     private Product product;
 
@@ -25,5 +35,12 @@ public class ProductImage extends BaseEntity {
 
     public void modify(String url) {
         this.url = url;
+        modifyVariants(null, null, null);
+    }
+
+    public void modifyVariants(String thumbnailUrl, String listUrl, String detailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.listUrl = listUrl;
+        this.detailUrl = detailUrl;
     }
 }
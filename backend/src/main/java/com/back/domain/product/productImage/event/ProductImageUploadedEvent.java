@@ -0,0 +1,8 @@
+package com.back.domain.product.productImage.event;
+
+public record ProductImageUploadedEvent(
+        int productId,
+        int productImageId,
+        String url
+) {
+}
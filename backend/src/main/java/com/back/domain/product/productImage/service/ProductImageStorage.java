@@ -0,0 +1,106 @@
+package com.back.domain.product.productImage.service;
+
+import com.back.global.exception.ServiceException;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 상품 이미지를 내용의 SHA-256 을 파일명으로 저장한다. 같은 URL 은 항상 같은 내용이므로 영구 캐시가 가능하다.
+@Component
+public class ProductImageStorage {
+    public static final String URL_PATH_PREFIX = "/images/";
+    private static final Set<String> ALLOWED_EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "webp");
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("^([0-9a-f]{64})\\.([a-z]+)$");
+
+    @Value("${custom.productImage.storageDir}")
+    private String storageDir;
+
+    @Value("${custom.productImage.baseUrl}")
+    private String baseUrl;
+
+    public record StoredImage(
+            Path path,
+            long size,
+            String eTag,
+            MediaType mediaType
+    ) {
+    }
+
+    // 이미 같은 내용의 파일이 있으면 그 URL 을 그대로 돌려준다.
+    @SneakyThrows
+    public String store(InputStream inputStream, String extension) {
+        String normalizedExtension = extension == null ? "" : extension.toLowerCase();
+
+        if (!ALLOWED_EXTENSIONS.contains(normalizedExtension))
+            throw new ServiceException("400-1", "지원하지 않는 이미지 형식입니다.");
+
+        Path root = getRoot();
+        Files.createDirectories(root);
+
+        Path tempFile = Files.createTempFile(root, "upload-", ".tmp");
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            try (InputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+                Files.copy(digestInputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String fileName = HexFormat.of().formatHex(digest.digest()) + "." + normalizedExtension;
+            Path target = root.resolve(fileName);
+
+            if (!Files.exists(target)) {
+                try {
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                    // 같은 내용을 동시에 올린 경우
+                }
+            }
+
+            return baseUrl + URL_PATH_PREFIX + fileName;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    public Optional<StoredImage> find(String fileName) throws IOException {
+        Matcher matcher = FILE_NAME_PATTERN.matcher(fileName);
+
+        if (!matcher.matches() || !ALLOWED_EXTENSIONS.contains(matcher.group(2))) return Optional.empty();
+
+        Path path = getRoot().resolve(fileName);
+
+        if (!Files.isRegularFile(path)) return Optional.empty();
+
+        return Optional.of(
+                new StoredImage(
+                        path,
+                        Files.size(path),
+                        // 파일명이 곧 내용의 해시라서 ETag 를 따로 계산할 필요가 없다.
+                        "\"%s\"".formatted(matcher.group(1)),
+                        MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM)
+                )
+        );
+    }
+
+    public Optional<StoredImage> findByUrl(String url) throws IOException {
+        return find(url.substring(url.lastIndexOf('/') + 1));
+    }
+
+    private Path getRoot() {
+        return Path.of(storageDir).toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,247 @@
+package com.back.domain.product.productImage.service;
+
+import com.back.domain.product.product.service.ProductService;
+import com.back.domain.product.productImage.event.ProductImageUploadedEvent;
+import com.back.global.exception.ServiceException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드된 원본으로 크기별 이미지를 만드는 백그라운드 작업.
+// 작업마다 가상 스레드를 쓰되, 디코딩은 메모리를 많이 쓰므로 동시에 maxConcurrency 개까지만 돌리고 대기 작업도 maxPending 개로 제한한다.
+// 픽셀 수가 maxPixels 를 넘는 이미지는 디코딩하지 않는다. (작은 파일이라도 크기만 크면 디코딩에 수 GB 가 필요하다)
+@Slf4j
+@Component
+public class ProductImageVariantPipeline {
+    public static final int THUMBNAIL_WIDTH = 112;
+    public static final int LIST_WIDTH = 480;
+    public static final int DETAIL_WIDTH = 1200;
+
+    private final ProductImageStorage productImageStorage;
+    private final ProductService productService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int maxPending;
+    private final long maxPixels;
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore decodePermits;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    public ProductImageVariantPipeline(
+            ProductImageStorage productImageStorage,
+            ProductService productService,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher applicationEventPublisher,
+            @Value("${custom.productImage.variant.maxConcurrency}") int maxConcurrency,
+            @Value("${custom.productImage.variant.maxPending}") int maxPending,
+            @Value("${custom.productImage.variant.maxPixels}") long maxPixels
+    ) {
+        this.productImageStorage = productImageStorage;
+        this.productService = productService;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.maxPending = maxPending;
+        this.maxPixels = maxPixels;
+        this.decodePermits = new Semaphore(maxConcurrency);
+    }
+
+    public record Variants(
+            String thumbnailUrl,
+            String listUrl,
+            String detailUrl
+    ) {
+    }
+
+    // 원본을 저장하기 전에 자리를 잡아 두고, 밀려 있으면 업로드 자체를 거절한다.
+    // 잡은 자리는 작업이 끝나거나, request 전에 실패해 releaseSlot 을 부르거나, 트랜잭션이 롤백되면 돌려준다.
+    public void reserveSlot() {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            throw new ServiceException("503-1", "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void releaseSlot() {
+        pendingCount.decrementAndGet();
+    }
+
+    // 이미지가 커밋된 뒤에 작업이 시작되도록 이벤트로 넘긴다.
+    public void request(int productId, int productImageId, String url) {
+        applicationEventPublisher.publishEvent(new ProductImageUploadedEvent(productId, productImageId, url));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(ProductImageUploadedEvent event) {
+        executorService.submit(() -> {
+            try {
+                decodePermits.acquire();
+
+                try {
+                    process(event);
+                } finally {
+                    decodePermits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("{}번 상품 이미지의 크기별 이미지 생성 실패", event.productImageId(), e);
+            } finally {
+                pendingCount.decrementAndGet();
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleRollback(ProductImageUploadedEvent event) {
+        releaseSlot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private void process(ProductImageUploadedEvent event) throws IOException {
+        Optional<ProductImageStorage.StoredImage> original = productImageStorage.findByUrl(event.url());
+
+        if (original.isEmpty()) return;
+
+        Optional<Variants> variants = createVariants(read(original.get().path()).orElse(null));
+
+        if (variants.isEmpty()) {
+            log.info("{}번 상품 이미지는 디코딩할 수 없는 형식이거나 너무 커서 원본만 사용합니다.", event.productImageId());
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                productService.findById(event.productId())
+                        .flatMap(product -> product.findProductImageById(event.productImageId()))
+                        // 작업 중에 이미지가 바뀌었으면 결과를 버린다.
+                        .filter(productImage -> productImage.getUrl().equals(event.url()))
+                        .ifPresent(productImage -> productService.modifyProductImageVariants(
+                                productImage,
+                                variants.get().thumbnailUrl(),
+                                variants.get().listUrl(),
+                                variants.get().detailUrl()
+                        ))
+        );
+    }
+
+    // 헤더로 크기를 먼저 확인하고, maxPixels 이하일 때만 디코딩한다. 지원하지 않는 형식이거나 너무 크면 빈 값
+    public Optional<BufferedImage> read(Path path) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(path.toFile())) {
+            if (inputStream == null) return Optional.empty();
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) return Optional.empty();
+
+            ImageReader reader = readers.next();
+
+            try {
+                reader.setInput(inputStream, true, true);
+
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+
+                if (pixels > maxPixels) {
+                    log.warn("{}x{} 이미지는 최대 픽셀 수({})를 넘어 디코딩하지 않습니다.", reader.getWidth(0), reader.getHeight(0), maxPixels);
+                    return Optional.empty();
+                }
+
+                return Optional.ofNullable(reader.read(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 디코딩은 한 번만 하고, 큰 크기부터 만들어 다음 크기의 입력으로 쓴다. source 가 null 이면(지원하지 않는 형식) 빈 값
+    public Optional<Variants> createVariants(BufferedImage source) throws IOException {
+        if (source == null) return Optional.empty();
+
+        BufferedImage detail = resize(source, DETAIL_WIDTH);
+        BufferedImage list = resize(detail, LIST_WIDTH);
+        BufferedImage thumbnail = resize(list, THUMBNAIL_WIDTH);
+
+        return Optional.of(
+                new Variants(
+                        store(thumbnail),
+                        store(list),
+                        store(detail)
+                )
+        );
+    }
+
+    // 원본보다 크게 늘리지는 않는다. 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄여 나간다.
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        if (source.getWidth() <= maxWidth) return source;
+
+        int targetWidth = maxWidth;
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * (double) maxWidth / source.getWidth()));
+        int imageType = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(width / 2, targetWidth);
+            height = Math.max(height / 2, targetHeight);
+
+            BufferedImage next = new BufferedImage(width, height, imageType);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private String store(BufferedImage image) throws IOException {
+        // 투명도가 있으면 PNG, 없으면 훨씬 작은 JPEG
+        boolean hasAlpha = image.getColorModel().hasAlpha();
+        String format = hasAlpha ? "png" : "jpg";
+        BufferedImage output = hasAlpha ? image : toRgb(image);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(output, format, outputStream);
+
+        return productImageStorage.store(new ByteArrayInputStream(outputStream.toByteArray()), format);
+    }
+
+    // JPEG 인코더는 팔레트/회색조 등 일부 형식을 받지 못한다.
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) return image;
+
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+
+        return rgb;
+    }
+}
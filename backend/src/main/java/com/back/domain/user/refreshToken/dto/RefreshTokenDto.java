@@ -0,0 +1,19 @@
+package com.back.domain.user.refreshToken.dto;
+
+import java.time.LocalDateTime;
+
+public record RefreshTokenDto(
+        String tokenHash,
+        String familyId,
+        int userId,
+        LocalDateTime expireDate,
+        LocalDateTime rotatedAt
+) {
+    public boolean isExpired(LocalDateTime now) {
+        return !expireDate.isAfter(now);
+    }
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.back.domain.user.refreshToken.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// RefreshTokenRepository 가 쓰는 테이블. 스키마 관리를 다른 테이블과 같이 JPA 에 맡기기 위한 매핑이다.
+// 토큰 원문은 저장하지 않는다. 한 번 쓴(회전된) 토큰도 만료될 때까지 남겨서 재사용을 알아챈다.
+@Entity
+@Table(
+        name = "refresh_token",
+        indexes = {
+                @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_token_expire_date", columnList = "expire_date")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+    // 토큰의 SHA-256 (Base64)
+    @Id
+    @Column(length = 44)
+    private String tokenHash;
+
+    // 로그인 한 번(기기 하나)에서 이어지는 토큰들은 같은 계열이다.
+    @Column(length = 36, nullable = false)
+    private String familyId;
+
+    @Column(nullable = false)
+    private int userId;
+
+    @Column(nullable = false)
+    private LocalDateTime createDate;
+
+    @Column(nullable = false)
+    private LocalDateTime expireDate;
+
+    // 새 토큰으로 바꿔준 시각. null 이면 아직 쓰지 않은 토큰
+    private LocalDateTime rotatedAt;
+}
@@ -0,0 +1,94 @@
+package com.back.domain.user.refreshToken.repository;
+
+import com.back.domain.user.refreshToken.dto.RefreshTokenDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 호출한 쪽에 트랜잭션이 있으면 합류하고, 없으면 문장마다 따로 커밋한다.
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class RefreshTokenRepository {
+    private static final RowMapper<RefreshTokenDto> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp rotatedAt = rs.getTimestamp("rotated_at");
+
+        return new RefreshTokenDto(
+                rs.getString("token_hash"),
+                rs.getString("family_id"),
+                rs.getInt("user_id"),
+                rs.getTimestamp("expire_date").toLocalDateTime(),
+                rotatedAt == null ? null : rotatedAt.toLocalDateTime()
+        );
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insert(RefreshTokenDto token, LocalDateTime now) {
+        jdbcTemplate.update(
+                "INSERT INTO refresh_token (token_hash, family_id, user_id, create_date, expire_date) VALUES (?, ?, ?, ?, ?)",
+                token.tokenHash(),
+                token.familyId(),
+                token.userId(),
+                Timestamp.valueOf(now),
+                Timestamp.valueOf(token.expireDate())
+        );
+    }
+
+    public Optional<RefreshTokenDto> findByTokenHash(String tokenHash) {
+        return jdbcTemplate.query(
+                        "SELECT token_hash, family_id, user_id, expire_date, rotated_at FROM refresh_token WHERE token_hash = ?",
+                        ROW_MAPPER,
+                        tokenHash
+                )
+                .stream()
+                .findFirst();
+    }
+
+    // 아직 쓰지 않았고 만료되지 않은 토큰만 회전된다. 다른 요청(노드)이 먼저 회전했으면 false
+    public boolean markRotated(String tokenHash, LocalDateTime now) {
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+
+        return jdbcTemplate.update(
+                "UPDATE refresh_token SET rotated_at = ? WHERE token_hash = ? AND rotated_at IS NULL AND expire_date > ?",
+                nowTimestamp,
+                tokenHash,
+                nowTimestamp
+        ) == 1;
+    }
+
+    public int deleteByFamilyId(String familyId) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE family_id = ?", familyId);
+    }
+
+    public int deleteByUserId(int userId) {
+        return jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ?", userId);
+    }
+
+    // 만료된 토큰을 limit 개까지 지운다.
+    public int deleteExpired(LocalDateTime now, int limit) {
+        List<String> tokenHashes = jdbcTemplate.queryForList(
+                "SELECT token_hash FROM refresh_token WHERE expire_date <= ? ORDER BY expire_date ASC LIMIT ?",
+                String.class,
+                Timestamp.valueOf(now),
+                limit
+        );
+
+        if (tokenHashes.isEmpty()) return 0;
+
+        return namedParameterJdbcTemplate.update(
+                "DELETE FROM refresh_token WHERE token_hash IN (:tokenHashes)",
+                Map.of("tokenHashes", tokenHashes)
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.back.domain.user.refreshToken.service;
+
+import com.back.domain.user.refreshToken.dto.RefreshTokenDto;
+import com.back.domain.user.refreshToken.repository.RefreshTokenRepository;
+import com.back.standard.util.Ut;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+// 리프레시 토큰은 users 행이 아니라 refresh_token 테이블에 토큰 해시로 저장한다.
+// - 쓸 때마다 새 토큰으로 바꾼다(회전). 이전 토큰은 회전된 상태로 만료될 때까지 남는다.
+// - 로그인마다 계열(familyId)이 새로 생기므로 기기별로 세션이 따로 유지되고 따로 폐기된다.
+// - 회전된 토큰이 다시 쓰이면 탈취로 보고 그 계열을 통째로 폐기한다.
+//   단, 회전 직후 rotationGraceSeconds 안의 재사용은 다른 노드로 같이 들어온 갱신으로 보고 폐기하지 않는다.
+// 아직 쓰지 않은 토큰은 메모리에도 두어 갱신 때 조회를 건너뛴다. 판단 기준은 항상 DB 의 조건부 UPDATE 다.
+@Service
+@Slf4j
+public class RefreshTokenService {
+    public enum RotationStatus {
+        ROTATED,
+        // 회전 직후 같은 토큰이 다시 들어왔다. 새 리프레시 토큰 없이 액세스 토큰만 다시 발급한다.
+        CONCURRENT,
+        INVALID,
+        REUSED
+    }
+
+    public record Rotation(
+            RotationStatus status,
+            int userId,
+            String refreshToken
+    ) {
+        private static Rotation failed(RotationStatus status, int userId) {
+            return new Rotation(status, userId, null);
+        }
+    }
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+    private final Duration rotationGrace;
+    private final int purgeBatchSize;
+    private final Cache<String, RefreshTokenDto> liveTokens;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${custom.refreshToken.expirationSeconds}") int expirationSeconds,
+            @Value("${custom.refreshToken.rotationGraceSeconds}") int rotationGraceSeconds,
+            @Value("${custom.refreshToken.cacheMaxSize}") long cacheMaxSize,
+            @Value("${custom.refreshToken.purgeBatchSize}") int purgeBatchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = Duration.ofSeconds(expirationSeconds);
+        this.rotationGrace = Duration.ofSeconds(rotationGraceSeconds);
+        this.purgeBatchSize = purgeBatchSize;
+        this.liveTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.creating((String tokenHash, RefreshTokenDto token) -> timeToExpire(token)))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, liveTokens, "refreshToken");
+    }
+
+    // 새 계열(기기 세션)을 시작한다.
+    @Transactional
+    public String issue(int userId) {
+        return issue(userId, UUID.randomUUID().toString(), LocalDateTime.now());
+    }
+
+    @Transactional
+    public Rotation rotate(String refreshToken) {
+        String tokenHash = Ut.digest.sha256(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        RefreshTokenDto token = liveTokens.getIfPresent(tokenHash);
+        if (token == null) token = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+        if (token == null || token.isExpired(now)) return Rotation.failed(RotationStatus.INVALID, 0);
+
+        liveTokens.invalidate(tokenHash);
+
+        if (refreshTokenRepository.markRotated(tokenHash, now)) {
+            return new Rotation(
+                    RotationStatus.ROTATED,
+                    token.userId(),
+                    issue(token.userId(), token.familyId(), now)
+            );
+        }
+
+        // 이미 회전된 토큰이 다시 들어왔다. 계열이 폐기되어 행이 없으면 그냥 유효하지 않은 토큰이다.
+        RefreshTokenDto current = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+        if (current == null || !current.isRotated()) return Rotation.failed(RotationStatus.INVALID, token.userId());
+
+        // 한 페이지의 요청들이 여러 노드로 나뉘어 거의 동시에 갱신한 경우. 새 토큰은 먼저 회전한 요청이 받는다.
+        if (current.rotatedAt().isAfter(now.minus(rotationGrace)))
+            return new Rotation(RotationStatus.CONCURRENT, current.userId(), null);
+
+        log.warn("회전된 리프레시 토큰 재사용, 계열 폐기 userId={}, familyId={}", current.userId(), current.familyId());
+        revokeFamily(current.familyId());
+
+        return Rotation.failed(RotationStatus.REUSED, current.userId());
+    }
+
+    // 이 토큰이 속한 기기 세션만 끝낸다.
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(Ut.digest.sha256(refreshToken))
+                .ifPresent(token -> revokeFamily(token.familyId()));
+    }
+
+    @Transactional
+    public void revokeAll(int userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+        liveTokens.asMap().values().removeIf(token -> token.userId() == userId);
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.refreshToken.purgeIntervalMillis}",
+            fixedDelayString = "${custom.refreshToken.purgeIntervalMillis}"
+    )
+    public void purge() {
+        purgeExpired(LocalDateTime.now());
+    }
+
+    // 만료된 토큰을 purgeBatchSize 개씩 지우고 지운 수를 반환
+    public int purgeExpired(LocalDateTime now) {
+        int deletedCount = 0;
+
+        while (true) {
+            int count = refreshTokenRepository.deleteExpired(now, purgeBatchSize);
+            deletedCount += count;
+
+            if (count < purgeBatchSize) break;
+        }
+
+        if (deletedCount > 0)
+            log.info("만료된 리프레시 토큰 {}건 삭제", deletedCount);
+
+        return deletedCount;
+    }
+
+    private String issue(int userId, String familyId, LocalDateTime now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshTokenDto token = new RefreshTokenDto(
+                Ut.digest.sha256(refreshToken),
+                familyId,
+                userId,
+                now.plus(ttl),
+                null
+        );
+
+        refreshTokenRepository.insert(token, now);
+        liveTokens.put(token.tokenHash(), token);
+
+        return refreshToken;
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.deleteByFamilyId(familyId);
+        liveTokens.asMap().values().removeIf(token -> token.familyId().equals(familyId));
+    }
+
+    private static Duration timeToExpire(RefreshTokenDto token) {
+        Duration remaining = Duration.between(LocalDateTime.now(), token.expireDate());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
@@ -1,7 +1,9 @@
 package com.back.domain.user.user.controller;
 
 import com.back.domain.user.user.dto.AdminUserDto;
+import com.back.domain.user.user.dto.UserPurgeJobDto;
 import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.service.UserPurgeService;
 import com.back.domain.user.user.service.UserService;
 import com.back.global.exception.ServiceException;
 import com.back.global.rsData.RsData; // RsData 임포트가 반드시 있어야 합니다.
@@ -24,6 +26,7 @@ import java.util.List;
 @PreAuthorize("hasRole('ADMIN')")
 public class ApiV1AdminUserController {
     private final UserService userService;
+    private final UserPurgeService userPurgeService;
 
     @GetMapping // 이 어노테이션이 있는지 확인
     @Operation(summary = "모든 사용자 정보 조회 (관리자)")
@@ -43,10 +46,23 @@ public class ApiV1AdminUserController {
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "특정 사용자 삭제 (관리자)")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public ResponseEntity<Void> deleteUser(@PathVariable int id) {
-        userService.deleteUser(id);
-        return ResponseEntity.noContent().build();
+    @Operation(summary = "특정 사용자 삭제 (관리자)", description = "주문이 많은 사용자는 백그라운드에서 나눠 삭제하고 202 와 작업 정보를 돌려줍니다.")
+    public ResponseEntity<RsData<UserPurgeJobDto>> deleteUser(@PathVariable int id) {
+        return userPurgeService.delete(id)
+                .map(job -> ResponseEntity
+                        .status(HttpStatus.ACCEPTED)
+                        .body(new RsData<>(
+                                "202-1",
+                                "%d번 회원 삭제 작업이 시작되었습니다.".formatted(id),
+                                job
+                        )))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/purge-jobs/{jobId}")
+    @Operation(summary = "사용자 삭제 작업 진행 상황 조회 (관리자)")
+    public UserPurgeJobDto getPurgeJob(@PathVariable String jobId) {
+        return userPurgeService.findJob(jobId)
+                .orElseThrow(() -> new ServiceException("404-1", "존재하지 않는 삭제 작업입니다."));
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.back.domain.user.user.controller;
 
 import com.back.domain.user.user.dto.UserDto;
 import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.service.AccessTokenRefresher;
 import com.back.domain.user.user.service.UserService;
 import com.back.global.exception.ServiceException;
 import com.back.global.rq.Rq;
@@ -18,8 +19,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
@@ -68,9 +67,8 @@ public class ApiV1UserController {
 
         // JWT accessToken 생성
         String accessToken = userService.genAccessToken(user);
-        // JWT refreshToken 생성
-        String refreshToken = userService.genRefreshToken(user);
-        userService.updateRefreshToken(user, refreshToken);
+        // refreshToken 발급 (로그인마다 새 기기 세션)
+        String refreshToken = userService.issueRefreshToken(user);
 
         // JWT, apiKey 쿠키 세팅
         rq.setCookie("accessToken", accessToken, true);
@@ -83,13 +81,10 @@ public class ApiV1UserController {
     @DeleteMapping("/logout")
     @Operation(summary = "로그아웃")
     @SecurityRequirement(name = "bearerAuth")
-    public RsData<Void> logout(@AuthenticationPrincipal UserSecurityUser userSecurityUser) {
-        if (userSecurityUser != null) {
-            User user = userService.findById(userSecurityUser.getId())
-                    .orElse(null); // 사용자를 찾지 못하면 null
-            if (user != null) {
-                userService.invalidateRefreshToken(user); // 리프레시 토큰 무효화
-            }
+    public RsData<Void> logout(@CookieValue(value = "refreshToken", required = false) String refreshToken) {
+        // 이 기기의 리프레시 토큰만 무효화한다. 다른 기기의 로그인은 유지된다.
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            userService.revokeRefreshToken(refreshToken);
         }
         rq.deleteCookie("accessToken");
         rq.deleteCookie("apiKey");
@@ -119,23 +114,23 @@ public class ApiV1UserController {
             throw new ServiceException("401-3", "리프레시 토큰이 없습니다. 다시 로그인 해주세요.");
         }
 
-        //리프레시 토큰 유효성 검증 및 페이로드 추출
-        Map<String, Object> refreshPayload = userService.verifyRefreshToken(refreshToken);
+        // 리프레시 토큰을 회전하고 새 액세스 토큰을 발급
+        AccessTokenRefresher.Result refreshed = userService.refreshAccessToken(refreshToken);
 
-        //리프레시 토큰의 사용자 정보와 DB에 저장된 리프레시 토큰 일치 여부 확인
-        int userId = (int) refreshPayload.get("id");
-        User user = userService.findById(userId)
-                .orElseThrow(() -> new ServiceException("404-2", "사용자 정보를 찾을 수 없습니다."));
-
-        if (!refreshToken.equals(user.getRefreshToken())) {
-            throw new ServiceException("401-4", "유효하지 않은 리프레시 토큰입니다. 다시 로그인 해주세요.");
+        switch (refreshed.status()) {
+            case INVALID_TOKEN -> throw new ServiceException("401-6", "리프레시 토큰이 만료되었습니다. 다시 로그인 해주세요.");
+            case USER_NOT_FOUND -> throw new ServiceException("404-2", "사용자 정보를 찾을 수 없습니다.");
+            case TOKEN_MISMATCH -> throw new ServiceException("401-4", "유효하지 않은 리프레시 토큰입니다. 다시 로그인 해주세요.");
+            case REFRESHED -> { }
         }
 
-        //새로운 액세스 토큰 발급
-        String newAccessToken = userService.genAccessToken(user);
+        User user = userService.findById(refreshed.userId())
+                .orElseThrow(() -> new ServiceException("404-2", "사용자 정보를 찾을 수 없습니다."));
 
-        //새로운 액세스 토큰 쿠키에 설정
-        rq.setCookie("accessToken", newAccessToken, true);
+        //새로운 액세스 토큰, 리프레시 토큰 쿠키에 설정
+        rq.setCookie("accessToken", refreshed.accessToken(), true);
+        if (refreshed.refreshToken() != null)
+            rq.setCookie("refreshToken", refreshed.refreshToken(), true);
 
         return new RsData<>("200", "새로운 액세스 토큰이 발급되었습니다.", new UserDto(user));
     }
@@ -0,0 +1,24 @@
+package com.back.domain.user.user.dto;
+
+import com.back.domain.user.user.entity.User;
+
+// 인증에 필요한 최소 정보. API 키 캐시에 엔티티 대신 보관한다.
+public record UserPrincipalDto(
+        int id,
+        String username,
+        String nickname,
+        String role
+) {
+    public UserPrincipalDto(User user) {
+        this(
+                user.getId(),
+                user.getUsername(),
+                user.getNickname(),
+                user.getRole()
+        );
+    }
+
+    public User toUser() {
+        return new User(id, username, nickname, role);
+    }
+}
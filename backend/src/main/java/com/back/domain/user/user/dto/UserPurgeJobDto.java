@@ -0,0 +1,20 @@
+package com.back.domain.user.user.dto;
+
+import java.time.LocalDateTime;
+
+public record UserPurgeJobDto(
+        String id,
+        int userId,
+        Status status,
+        long totalOrderCount,
+        long deletedOrderCount,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        String errorMsg
+) {
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
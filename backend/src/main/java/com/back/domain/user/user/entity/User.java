@@ -3,6 +3,7 @@ package com.back.domain.user.user.entity;
 import com.back.global.jpa.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users") // 예약어 충돌 방지
+@EntityListeners(UserCacheInvalidationListener.class)
 @Getter
 @NoArgsConstructor
 public class User extends BaseEntity {
@@ -36,9 +38,6 @@ public class User extends BaseEntity {
     @Column(unique = true, nullable = false)
     private String apiKey;
 
-    @Column(length = 500)
-    private String refreshToken;
-
     public User(String username, String password, String nickname, String email, String address, String postalCode) {
         this.username = username;
         this.password = password;
@@ -48,11 +47,10 @@ public class User extends BaseEntity {
         this.postalCode = postalCode;
         this.role = "ROLE_USER";
         this.apiKey = generateApiKey();
-        this.refreshToken = null;
     }
 
     @Builder
-    public User(String username, String password, String nickname, String email, String address, String postalCode, String role, String apiKey, String refreshToken) {
+    public User(String username, String password, String nickname, String email, String address, String postalCode, String role, String apiKey) {
         this.username = username;
         this.password = password;
         this.nickname = nickname;
@@ -61,7 +59,6 @@ public class User extends BaseEntity {
         this.postalCode = postalCode;
         this.role = role;
         this.apiKey = (apiKey != null && !apiKey.isBlank()) ? apiKey : generateApiKey();
-        this.refreshToken = refreshToken;
 
     }
 
@@ -79,8 +76,4 @@ public class User extends BaseEntity {
     private String generateApiKey() {
         return UUID.randomUUID().toString().replace("-", "");
     }
-
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
 }
\ No newline at end of file
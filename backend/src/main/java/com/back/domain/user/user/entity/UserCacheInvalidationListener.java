@@ -0,0 +1,44 @@
+package com.back.domain.user.user.entity;
+
+import com.back.domain.user.user.service.AccessTokenRefresher;
+import com.back.domain.user.user.service.ApiKeyAuthCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 하이버네이트가 스프링 빈 컨테이너로 만든다. (엔티티매니저팩토리 생성 중이라 캐시는 지연 조회)
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+    private final ObjectProvider<ApiKeyAuthCache> apiKeyAuthCacheProvider;
+    private final ObjectProvider<AccessTokenRefresher> accessTokenRefresherProvider;
+
+    // role(setRole), 닉네임 변경과 회원 삭제 모두 여기로 온다.
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        String apiKey = user.getApiKey();
+        int userId = user.getId();
+        ApiKeyAuthCache apiKeyAuthCache = apiKeyAuthCacheProvider.getObject();
+        AccessTokenRefresher accessTokenRefresher = accessTokenRefresherProvider.getObject();
+
+        Runnable invalidation = () -> {
+            apiKeyAuthCache.invalidate(apiKey);
+            accessTokenRefresher.invalidateUser(userId);
+        };
+
+        invalidation.run();
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 읽어 캐시했을 수 있으므로 트랜잭션이 끝나면 한 번 더 지운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.back.domain.user.user.service;
+
+import com.back.domain.user.refreshToken.service.RefreshTokenService;
+import com.back.domain.user.user.dto.UserPrincipalDto;
+import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.repository.UserRepository;
+import com.back.standard.util.Ut;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 액세스 토큰이 만료되면 한 페이지의 API 요청들이 같은 리프레시 토큰으로 한꺼번에 갱신을 시도한다.
+// 리프레시 토큰(다이제스트)별로 한 요청만 토큰을 회전하고 회원을 조회해 발급하며, 나머지는 그 결과를 기다렸다가 같이 쓴다.
+// 결과는 reuseSeconds 동안 재사용한다. 다른 노드에서 온 요청이나 그 뒤에 같은 토큰이 다시 오면 RefreshTokenService 가
+// 회전 시각을 보고 판단한다. (rotationGraceSeconds 안이면 액세스 토큰만 발급, 지났으면 계열 폐기)
+// 회전된 새 리프레시 토큰은 회전한 요청에만 돌려준다. 재사용되는 결과에는 액세스 토큰만 있다.
+@Component
+public class AccessTokenRefresher {
+    public enum Status {
+        REFRESHED,
+        INVALID_TOKEN,
+        USER_NOT_FOUND,
+        TOKEN_MISMATCH
+    }
+
+    public record Result(
+            Status status,
+            int userId,
+            UserPrincipalDto principal,
+            String accessToken,
+            String refreshToken
+    ) {
+        private static Result failed(Status status, int userId) {
+            return new Result(status, userId, null, null, null);
+        }
+
+        private Result withoutRefreshToken() {
+            return new Result(status, userId, principal, accessToken, null);
+        }
+    }
+
+    private final RefreshTokenService refreshTokenService;
+    private final UserRepository userRepository;
+    private final UserAuthTokenService userAuthTokenService;
+    private final Cache<String, Result> results;
+
+    public AccessTokenRefresher(
+            RefreshTokenService refreshTokenService,
+            UserRepository userRepository,
+            UserAuthTokenService userAuthTokenService,
+            @Value("${custom.refreshToken.reuseSeconds}") int reuseSeconds,
+            @Value("${custom.refreshToken.reuseMaxSize}") long reuseMaxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenService = refreshTokenService;
+        this.userRepository = userRepository;
+        this.userAuthTokenService = userAuthTokenService;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(reuseMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(reuseSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "accessTokenRefresh");
+    }
+
+    // 로더는 호출한 스레드에서 실행되므로, loaded 가 채워졌으면 이 요청이 회전한 것이다.
+    public Result refresh(String refreshToken) {
+        Result[] loaded = new Result[1];
+
+        Result shared = results.get(Ut.digest.sha256(refreshToken), digest -> {
+            loaded[0] = load(refreshToken);
+
+            return loaded[0].withoutRefreshToken();
+        });
+
+        return loaded[0] != null ? loaded[0] : shared;
+    }
+
+    public void invalidate(String refreshToken) {
+        if (refreshToken == null) return;
+
+        results.invalidate(Ut.digest.sha256(refreshToken));
+    }
+
+    // 회원 정보(role 등)가 바뀌었거나 회원이 삭제되었을 때
+    public void invalidateUser(int userId) {
+        results.asMap().values().removeIf(result -> result.userId() == userId);
+    }
+
+    private Result load(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        if (rotation.status() == RefreshTokenService.RotationStatus.INVALID)
+            return Result.failed(Status.INVALID_TOKEN, rotation.userId());
+
+        // 이미 쓴 토큰이 다시 왔다: 탈취 가능성. 계열은 폐기되었다.
+        if (rotation.status() == RefreshTokenService.RotationStatus.REUSED)
+            return Result.failed(Status.TOKEN_MISMATCH, rotation.userId());
+
+        // CONCURRENT 는 rotation.refreshToken() 이 null 이므로 액세스 토큰만 발급된다.
+        Optional<User> userOptional = userRepository.findById(rotation.userId());
+        if (userOptional.isEmpty()) return Result.failed(Status.USER_NOT_FOUND, rotation.userId());
+
+        User user = userOptional.get();
+
+        return new Result(
+                Status.REFRESHED,
+                user.getId(),
+                new UserPrincipalDto(user),
+                userAuthTokenService.genAccessToken(user),
+                rotation.refreshToken()
+        );
+    }
+}
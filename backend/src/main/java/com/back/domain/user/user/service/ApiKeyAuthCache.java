@@ -0,0 +1,49 @@
+package com.back.domain.user.user.service;
+
+import com.back.domain.user.user.dto.UserPrincipalDto;
+import com.back.domain.user.user.entity.User;
+import com.back.standard.util.Ut;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// API 키의 SHA-256 다이제스트 -> 인증 정보.
+// 회원이 수정/삭제되면 UserCacheInvalidationListener 가 지운다. 없는 키는 캐시하지 않는다.
+@Component
+public class ApiKeyAuthCache {
+    private final Cache<String, UserPrincipalDto> principals;
+
+    public ApiKeyAuthCache(
+            @Value("${custom.user.apiKeyCache.maxSize}") long maxSize,
+            @Value("${custom.user.apiKeyCache.ttlSeconds}") int ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "apiKeyAuth");
+    }
+
+    // 같은 키로 동시에 들어온 요청은 조회 한 번을 기다린다.
+    public Optional<UserPrincipalDto> get(String apiKey, Supplier<Optional<User>> loader) {
+        return Optional.ofNullable(
+                principals.get(Ut.digest.sha256(apiKey), digest -> loader.get().map(UserPrincipalDto::new).orElse(null))
+        );
+    }
+
+    public void invalidate(String apiKey) {
+        if (apiKey == null) return;
+
+        principals.invalidate(Ut.digest.sha256(apiKey));
+    }
+}
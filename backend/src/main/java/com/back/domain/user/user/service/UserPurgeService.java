@@ -0,0 +1,168 @@
+package com.back.domain.user.user.service;
+
+import com.back.domain.order.orderItem.dto.OrderItemQuantitySumDto;
+import com.back.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.domain.order.orders.repository.OrderRepository;
+import com.back.domain.order.sales.service.SalesRollupService;
+import com.back.domain.product.product.service.ProductService;
+import com.back.domain.user.user.dto.UserPurgeJobDto;
+import com.back.global.exception.ServiceException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 주문이 많은 회원은 한 트랜잭션으로 지우면 잠금을 오래 잡으므로 주문을 chunkSize 씩 나눠 백그라운드에서 지운다.
+// 작업 상태는 이 노드의 메모리에만 있다.
+@Service
+@Slf4j
+public class UserPurgeService {
+    private final UserService userService;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ProductService productService;
+    private final SalesRollupService salesRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int syncMaxOrders;
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final Cache<String, Job> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+    private final ConcurrentHashMap<Integer, Job> runningJobByUserId = new ConcurrentHashMap<>();
+
+    private static class Job {
+        private final String id = UUID.randomUUID().toString();
+        private final int userId;
+        private final long totalOrderCount;
+        private final LocalDateTime startDate = LocalDateTime.now();
+        private final AtomicLong deletedOrderCount = new AtomicLong();
+        private volatile UserPurgeJobDto.Status status = UserPurgeJobDto.Status.RUNNING;
+        private volatile LocalDateTime endDate;
+        private volatile String errorMsg;
+
+        private Job(int userId, long totalOrderCount) {
+            this.userId = userId;
+            this.totalOrderCount = totalOrderCount;
+        }
+
+        private void finish(UserPurgeJobDto.Status status, String errorMsg) {
+            this.errorMsg = errorMsg;
+            this.endDate = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private UserPurgeJobDto toDto() {
+            return new UserPurgeJobDto(id, userId, status, totalOrderCount, deletedOrderCount.get(), startDate, endDate, errorMsg);
+        }
+    }
+
+    public UserPurgeService(
+            UserService userService,
+            OrderRepository orderRepository,
+            OrderItemRepository orderItemRepository,
+            ProductService productService,
+            SalesRollupService salesRollupService,
+            PlatformTransactionManager transactionManager,
+            @Value("${custom.user.purge.chunkSize}") int chunkSize,
+            @Value("${custom.user.purge.syncMaxOrders}") int syncMaxOrders
+    ) {
+        this.userService = userService;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.productService = productService;
+        this.salesRollupService = salesRollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.syncMaxOrders = syncMaxOrders;
+    }
+
+    // 주문이 syncMaxOrders 이하면 바로 지우고 빈 값을, 많으면 백그라운드 작업을 시작하고 그 상태를 돌려준다.
+    public Optional<UserPurgeJobDto> delete(int userId) {
+        if (userService.findById(userId).isEmpty())
+            throw new ServiceException("404-3", "삭제하려는 회원이 존재하지 않습니다.");
+
+        Job runningJob = runningJobByUserId.get(userId);
+        if (runningJob != null) return Optional.of(runningJob.toDto());
+
+        long orderCount = orderRepository.countByUserId(userId);
+
+        if (orderCount <= syncMaxOrders) {
+            userService.deleteUser(userId);
+            return Optional.empty();
+        }
+
+        Job job = new Job(userId, orderCount);
+        Job existing = runningJobByUserId.putIfAbsent(userId, job);
+        if (existing != null) return Optional.of(existing.toDto());
+
+        jobs.put(job.id, job);
+        executorService.execute(() -> run(job));
+
+        return Optional.of(job.toDto());
+    }
+
+    public Optional<UserPurgeJobDto> findJob(String id) {
+        return Optional.ofNullable(jobs.getIfPresent(id)).map(Job::toDto);
+    }
+
+    private void run(Job job) {
+        try {
+            while (true) {
+                Integer deletedCount = transactionTemplate.execute(status -> deleteOrderChunk(job.userId));
+
+                if (deletedCount == null || deletedCount == 0) break;
+
+                job.deletedOrderCount.addAndGet(deletedCount);
+            }
+
+            // 남은 찜 목록과 회원 (작업 중에 생긴 주문이 있으면 같이 지운다)
+            userService.deleteUser(job.userId);
+            job.finish(UserPurgeJobDto.Status.COMPLETED, null);
+        } catch (Exception e) {
+            log.error("{}번 회원 삭제 작업 실패", job.userId, e);
+            job.finish(UserPurgeJobDto.Status.FAILED, e.getMessage());
+        } finally {
+            runningJobByUserId.remove(job.userId, job);
+        }
+    }
+
+    private int deleteOrderChunk(int userId) {
+        List<Integer> orderIds = orderRepository.findIdsByUserId(userId, PageRequest.ofSize(chunkSize));
+
+        if (orderIds.isEmpty()) return 0;
+
+        productService.releaseStocks(
+                OrderItemQuantitySumDto.toQuantityByProductId(
+                        orderItemRepository.sumQuantityGroupByProductIdByOrderIdIn(orderIds)
+                )
+        );
+
+        salesRollupService.removeOrders(orderIds);
+        orderItemRepository.deleteByOrderIdIn(orderIds);
+        orderRepository.deleteByIdIn(orderIds);
+
+        return orderIds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
@@ -1,11 +1,15 @@
 package com.back.domain.user.user.service;
 
+import com.back.domain.user.refreshToken.service.RefreshTokenService;
+import com.back.domain.user.user.dto.UserPrincipalDto;
 import com.back.domain.user.user.entity.User;
-import com.back.domain.order.orders.entity.Orders;
-import com.back.domain.order.orderItem.entity.OrderItem;
+import com.back.domain.order.orderItem.dto.OrderItemQuantitySumDto;
 import com.back.domain.user.user.repository.UserRepository;
 import com.back.domain.order.orders.repository.OrderRepository;
 import com.back.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.domain.order.sales.service.SalesRollupService;
+import com.back.domain.product.product.service.ProductService;
+import com.back.domain.wishList.wishList.repository.WishListRepository;
 import com.back.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -13,7 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -24,6 +27,12 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final WishListRepository wishListRepository;
+    private final ProductService productService;
+    private final SalesRollupService salesRollupService;
+    private final ApiKeyAuthCache apiKeyAuthCache;
+    private final AccessTokenRefresher accessTokenRefresher;
+    private final RefreshTokenService refreshTokenService;
 
     public User join(String username, String rawPassword, String nickname, String email, String address, String postalCode) {
         userRepository.findByUsername(username)
@@ -39,27 +48,19 @@ public class UserService {
         return userAuthTokenService.genAccessToken(user);
     }
 
-    public String genRefreshToken(User user) {
-        return userAuthTokenService.genRefreshToken(user);
-    }
-    @Transactional
-    public void updateRefreshToken(User user, String refreshToken) {
-        user.updateRefreshToken(refreshToken);
-        userRepository.save(user);
+    // 로그인마다 새 기기 세션(계열)을 시작한다. users 행에는 쓰지 않는다.
+    public String issueRefreshToken(User user) {
+        return refreshTokenService.issue(user.getId());
     }
 
-    public Map<String, Object> verifyRefreshToken(String refreshToken) {
-        Map<String, Object> payload = userAuthTokenService.payloadRefreshToken(refreshToken);
-        if (payload == null) {
-            throw new ServiceException("401-6", "리프레시 토큰이 유효하지 않거나 만료되었습니다.");
-        }
-        return payload;
+    public AccessTokenRefresher.Result refreshAccessToken(String refreshToken) {
+        return accessTokenRefresher.refresh(refreshToken);
     }
 
-    @Transactional
-    public void invalidateRefreshToken(User user) {
-        user.updateRefreshToken(null);
-        userRepository.save(user);
+    // 이 토큰의 기기 세션만 끝낸다. 다른 기기의 세션은 그대로 둔다.
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+        accessTokenRefresher.invalidate(refreshToken);
     }
 
     public Optional<User> findByUsername(String username) {
@@ -115,21 +116,30 @@ public class UserService {
         return userRepository.findByApiKey(apiKey);
     }
 
+    // 인증 필터용. 캐시에 있으면 DB 를 거치지 않는다. id, username, nickname, role 만 채워진 User 를 돌려준다.
+    public Optional<User> findPrincipalByApiKey(String apiKey) {
+        return apiKeyAuthCache.get(apiKey, () -> userRepository.findByApiKey(apiKey))
+                .map(UserPrincipalDto::toUser);
+    }
+
+    // 주문 아이템 -> 주문 -> 찜 -> 회원 순서로 건별이 아니라 문장 단위로 지운다. 아직 처리 중인 주문의 재고는 돌려놓는다.
+    // 주문이 많은 회원은 UserPurgeService 가 주문을 나눠서 지운 뒤 마지막에 호출한다.
     @Transactional
     public void deleteUser(int id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ServiceException("404-3", "삭제하려는 회원이 존재하지 않습니다."));
-        List<Orders> userOrders = orderRepository.findByUserId(user.getId());
-        userOrders.forEach(order -> {
-            List<OrderItem> orderItems = orderItemRepository.findByOrderId(order.getId());
-            if (!orderItems.isEmpty()) {
-                orderItemRepository.deleteAll(orderItems);
-            }
-        });
-
-        if (!userOrders.isEmpty()) {
-            orderRepository.deleteAll(userOrders);
-        }
+
+        productService.releaseStocks(
+                OrderItemQuantitySumDto.toQuantityByProductId(
+                        orderItemRepository.sumQuantityGroupByProductIdByUserId(id)
+                )
+        );
+
+        salesRollupService.removeUserOrders(id);
+        orderItemRepository.deleteByOrderUserId(id);
+        orderRepository.deleteByUserId(id);
+        wishListRepository.deleteByUserId(id);
+        refreshTokenService.revokeAll(id);
         userRepository.delete(user);
     }
 }
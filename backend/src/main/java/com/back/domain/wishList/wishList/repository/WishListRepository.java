@@ -2,7 +2,10 @@ package com.back.domain.wishList.wishList.repository;
 
 import com.back.domain.wishList.wishList.entity.WishList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +16,9 @@ public interface WishListRepository extends JpaRepository<WishList, Integer> {
     Optional<WishList> findByUserIdAndProductId(@Param("userId") int currentUserId, @Param("productId") int productId);
 
     List<WishList> findByUserIdOrderByCreateDateDesc(int userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM WishList w WHERE w.user.id = :userId")
+    int deleteByUserId(int userId);
 }
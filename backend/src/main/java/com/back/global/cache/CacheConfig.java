@@ -0,0 +1,43 @@
+package com.back.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String PRODUCT_DETAIL = "productDetail";
+    public static final String PRODUCT_PAGE = "productPage";
+
+    @Value("${custom.cache.productCatalog.maximumSize}")
+    private long productCatalogMaximumSize;
+
+    @Value("${custom.cache.productCatalog.expireAfterWriteSeconds}")
+    private int productCatalogExpireAfterWriteSeconds;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // recordStats: hit/miss/eviction 지표를 actuator(cache.gets, cache.evictions)로 노출
+        cacheManager.setCaffeine(
+                Caffeine.newBuilder()
+                        .maximumSize(productCatalogMaximumSize)
+                        .expireAfterWrite(Duration.ofSeconds(productCatalogExpireAfterWriteSeconds))
+                        .recordStats()
+        );
+        cacheManager.setCacheNames(List.of(PRODUCT_DETAIL, PRODUCT_PAGE));
+
+        // 트랜잭션 안에서의 put/evict 는 커밋된 뒤에 반영된다. (롤백된 변경이 캐시에 남지 않도록)
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.global.export;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+public enum ExportFormat {
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8), "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    // orders-2025-01-31.csv
+    public String fileName(String name) {
+        return "%s-%s.%s".formatted(name, LocalDate.now(), extension);
+    }
+}
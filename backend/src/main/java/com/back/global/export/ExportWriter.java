@@ -0,0 +1,101 @@
+package com.back.global.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+// 결과 행을 모아 두지 않고 읽는 대로 출력 스트림에 쓴다.
+class ExportWriter implements Closeable {
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+
+    ExportWriter(OutputStream outputStream, ExportFormat format, List<String> columns, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.NDJSON) {
+            this.generator = objectMapper.createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+        } else {
+            this.generator = null;
+            // 엑셀에서 한글이 깨지지 않도록 BOM 을 붙인다. 상품 대량 등록도 BOM 을 건너뛴다.
+            writer.write('\uFEFF');
+            writeCsvLine(columns.toArray());
+        }
+    }
+
+    void writeRow(ResultSet rs) throws SQLException, IOException {
+        Object[] values = new Object[columns.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            Object value = rs.getObject(i + 1);
+            values[i] = value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value;
+        }
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(values);
+            return;
+        }
+
+        generator.writeStartObject();
+
+        for (int i = 0; i < values.length; i++) {
+            generator.writeFieldName(columns.get(i));
+            generator.writeObject(values[i]);
+        }
+
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            if (values[i] == null) continue;
+
+            // 숫자는 그대로 두고 문자열만 수식으로 해석되지 않게 막는다. (음수가 '-5 로 바뀌지 않도록)
+            String value = values[i] instanceof String text ? neutralizeFormula(text) : values[i].toString();
+            writer.write(escapeCsv(value));
+        }
+
+        writer.write("\r\n");
+    }
+
+    // =, +, -, @ (와 탭, CR) 로 시작하는 셀은 엑셀 등에서 수식으로 실행되므로 ' 를 앞에 붙여 문자열로 만든다. (CSV injection)
+    private static String neutralizeFormula(String value) {
+        if (value.isEmpty()) return value;
+
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    // RFC 4180
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1 && value.indexOf('\r') == -1)
+            return value;
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) generator.flush();
+        writer.flush();
+    }
+}
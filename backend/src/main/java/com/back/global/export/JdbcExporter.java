@@ -0,0 +1,62 @@
+package com.back.global.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+// 대량 내보내기. 엔티티를 만들지 않고 전진 전용 커서에서 fetchSize 만큼씩 받아 바로 응답에 쓴다.
+// StreamingResponseBody 는 MVC 비동기 스레드에서 실행되므로 톰캣 요청 스레드를 붙잡지 않는다.
+// MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetchSize 단위로 받아 온다.
+@Component
+public class JdbcExporter {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public JdbcExporter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${custom.export.fetchSize}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // sql 의 SELECT 컬럼 순서와 columns 순서가 같아야 한다.
+    public StreamingResponseBody export(String sql, List<String> columns, ExportFormat format) {
+        return outputStream -> {
+            try (ExportWriter writer = new ExportWriter(outputStream, format, columns, objectMapper)) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                        connection -> {
+                            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                            ps.setFetchSize(fetchSize);
+                            return ps;
+                        },
+                        (RowCallbackHandler) rs -> {
+                            try {
+                                writer.writeRow(rs);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }
+                ));
+            }
+        };
+    }
+}
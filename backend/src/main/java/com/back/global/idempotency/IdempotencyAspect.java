@@ -0,0 +1,93 @@
+package com.back.global.idempotency;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.rq.Rq;
+import com.back.global.rsData.RsData;
+import com.back.global.security.UserSecurityUser;
+import com.back.standard.util.Ut;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+// 트랜잭션 바깥에서 실행되어야 커밋된 결과만 저장되고, 중복 요청은 트랜잭션을 열지 않는다.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+    public static final String HEADER_NAME = "Idempotency-Key";
+    public static final String REPLAYED_HEADER_NAME = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyService idempotencyService;
+    private final HttpServletResponse response;
+    private final Rq rq;
+
+    @Around("@annotation(com.back.global.idempotency.Idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint) throws Throwable {
+        String idempotencyKey = rq.getHeader(HEADER_NAME, "");
+
+        if (idempotencyKey.isBlank()) return joinPoint.proceed();
+
+        if (idempotencyKey.length() > MAX_KEY_LENGTH)
+            throw new ServiceException("400-1", "Idempotency-Key 는 %d자 이하여야 합니다.".formatted(MAX_KEY_LENGTH));
+
+        // 같은 키라도 사용자와 API 가 다르면 다른 요청
+        String key = "%s.%s:%s:%s".formatted(
+                joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                joinPoint.getSignature().getName(),
+                currentUserScope(),
+                idempotencyKey
+        );
+
+        IdempotencyService.Result result = idempotencyService.execute(key, fingerprint(joinPoint.getArgs()), () -> proceed(joinPoint));
+
+        if (result.replayed()) {
+            rq.setHeader(REPLAYED_HEADER_NAME, "true");
+            response.setStatus(result.rsData().statusCode());
+        }
+
+        return result.rsData();
+    }
+
+    @SneakyThrows
+    private RsData<?> proceed(ProceedingJoinPoint joinPoint) {
+        return (RsData<?>) joinPoint.proceed();
+    }
+
+    private String currentUserScope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof UserSecurityUser user)
+            return String.valueOf(user.getId());
+
+        return "anonymous";
+    }
+
+    // 인증 정보를 뺀 인자(요청 본문, 경로 변수)의 해시
+    @SneakyThrows
+    private String fingerprint(Object[] args) {
+        List<Object> requestArgs = Arrays.stream(args)
+                .filter(arg -> !(arg instanceof UserSecurityUser))
+                .toList();
+
+        byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(Ut.json.toString(requestArgs, "").getBytes(StandardCharsets.UTF_8));
+
+        return HexFormat.of().formatHex(digest);
+    }
+}
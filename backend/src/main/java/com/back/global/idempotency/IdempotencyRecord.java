@@ -0,0 +1,37 @@
+package com.back.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// JdbcIdempotencyStore 가 쓰는 테이블. 스키마 관리를 다른 테이블과 같이 JPA 에 맡기기 위한 매핑이다.
+@Entity
+@Table(
+        name = "idempotency_record",
+        indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+    @Id
+    @Column(length = 200)
+    private String idempotencyKey;
+
+    @Column(length = 64, nullable = false)
+    private String fingerprint;
+
+    @Column(length = 20)
+    private String resultCode;
+
+    @Column(length = 500)
+    private String msg;
+
+    @Lob
+    private String body;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,17 @@
+package com.back.global.idempotency;
+
+// resultCode 가 null 이면 아직 처리 중인 요청
+public record IdempotencyResponse(
+        String fingerprint,
+        String resultCode,
+        String msg,
+        String body
+) {
+    public static IdempotencyResponse inProgress(String fingerprint) {
+        return new IdempotencyResponse(fingerprint, null, null, null);
+    }
+
+    public boolean completed() {
+        return resultCode != null;
+    }
+}
@@ -0,0 +1,152 @@
+package com.back.global.idempotency;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.RsData;
+import com.back.standard.util.Ut;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyService {
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final IdempotencyStore idempotencyStore;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+
+    // 이 노드에서 실행 중인 요청. 동시에 들어온 중복 요청은 먼저 들어온 실행의 결과를 기다린다.
+    private final ConcurrentHashMap<String, InFlight> inFlights = new ConcurrentHashMap<>();
+
+    private record InFlight(String fingerprint, CompletableFuture<IdempotencyResponse> future) {
+    }
+
+    public record Result(RsData<?> rsData, boolean replayed) {
+    }
+
+    public IdempotencyService(
+            IdempotencyStore idempotencyStore,
+            @Value("${custom.idempotency.ttlSeconds}") int ttlSeconds,
+            @Value("${custom.idempotency.waitTimeoutSeconds}") int waitTimeoutSeconds
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+    }
+
+    // fingerprint 는 요청 본문의 해시. 같은 키로 다른 요청이 오면 422
+    public Result execute(String key, String fingerprint, Supplier<RsData<?>> action) {
+        InFlight inFlight = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight existing = inFlights.putIfAbsent(key, inFlight);
+
+        if (existing != null) {
+            checkFingerprint(existing.fingerprint(), fingerprint);
+
+            return new Result(toRsData(await(existing.future())), true);
+        }
+
+        try {
+            Result result = executeOnce(key, fingerprint, action);
+            inFlight.future().complete(toResponse(fingerprint, result.rsData()));
+
+            return result;
+        } catch (RuntimeException e) {
+            inFlight.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(key, inFlight);
+        }
+    }
+
+    private Result executeOnce(String key, String fingerprint, Supplier<RsData<?>> action) {
+        while (true) {
+            Optional<IdempotencyResponse> stored = idempotencyStore.find(key);
+
+            if (stored.isPresent()) {
+                checkFingerprint(stored.get().fingerprint(), fingerprint);
+
+                // 다른 노드에서 처리 중
+                IdempotencyResponse response = stored.get().completed() ? stored.get() : awaitCompletion(key);
+
+                if (response == null) continue;
+
+                return new Result(toRsData(response), true);
+            }
+
+            if (!idempotencyStore.reserve(key, fingerprint, ttl)) continue;
+
+            RsData<?> rsData;
+
+            try {
+                rsData = action.get();
+            } catch (RuntimeException e) {
+                idempotencyStore.release(key);
+                throw e;
+            }
+
+            idempotencyStore.complete(key, toResponse(fingerprint, rsData), ttl);
+
+            return new Result(rsData, false);
+        }
+    }
+
+    private IdempotencyResponse await(CompletableFuture<IdempotencyResponse> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 실행된 요청과 같은 결과(예외)를 돌려준다.
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw inProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw inProgressException();
+        }
+    }
+
+    // 완료되면 응답, 처리하던 쪽이 실패해서 선점이 풀리면 null
+    @SneakyThrows
+    private IdempotencyResponse awaitCompletion(String key) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+
+            Optional<IdempotencyResponse> stored = idempotencyStore.find(key);
+
+            if (stored.isEmpty()) return null;
+            if (stored.get().completed()) return stored.get();
+        }
+
+        throw inProgressException();
+    }
+
+    private void checkFingerprint(String storedFingerprint, String fingerprint) {
+        if (!storedFingerprint.equals(fingerprint))
+            throw new ServiceException("422-1", "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+    }
+
+    private ServiceException inProgressException() {
+        return new ServiceException("409-2", "같은 Idempotency-Key 로 처리 중인 요청이 있습니다.");
+    }
+
+    private IdempotencyResponse toResponse(String fingerprint, RsData<?> rsData) {
+        return new IdempotencyResponse(fingerprint, rsData.resultCode(), rsData.msg(), Ut.json.toString(rsData.data()));
+    }
+
+    // 저장된 본문을 그대로 내보낸다. 원래 DTO 로 되돌리지 않아도 직렬화 결과는 같다.
+    @SneakyThrows
+    private RsData<?> toRsData(IdempotencyResponse response) {
+        return new RsData<>(response.resultCode(), response.msg(), Ut.json.objectMapper.readTree(response.body()));
+    }
+}
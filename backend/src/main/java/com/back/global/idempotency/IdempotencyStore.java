@@ -0,0 +1,16 @@
+package com.back.global.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+    Optional<IdempotencyResponse> find(String key);
+
+    // 처리 중 상태로 선점한다. 이미 같은 키가 있으면 false
+    boolean reserve(String key, String fingerprint, Duration ttl);
+
+    void complete(String key, IdempotencyResponse response, Duration ttl);
+
+    // 처리에 실패하면 선점을 풀어서 같은 키로 다시 시도할 수 있게 한다.
+    void release(String key);
+}
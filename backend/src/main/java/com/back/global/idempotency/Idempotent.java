@@ -0,0 +1,12 @@
+package com.back.global.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// RsData 를 반환하는 컨트롤러 메서드에 붙이면 Idempotency-Key 헤더가 있는 요청은 한 번만 실행된다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,47 @@
+package com.back.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 단일 노드용. 항목 수와 TTL 로 크기가 제한된다.
+@Component
+@ConditionalOnProperty(name = "custom.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final Cache<String, IdempotencyResponse> responses;
+
+    public InMemoryIdempotencyStore(
+            @Value("${custom.idempotency.ttlSeconds}") int ttlSeconds,
+            @Value("${custom.idempotency.maxEntries}") long maxEntries
+    ) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotencyResponse> find(String key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Duration ttl) {
+        return responses.asMap().putIfAbsent(key, IdempotencyResponse.inProgress(fingerprint)) == null;
+    }
+
+    @Override
+    public void complete(String key, IdempotencyResponse response, Duration ttl) {
+        responses.put(key, response);
+    }
+
+    @Override
+    public void release(String key) {
+        responses.asMap().computeIfPresent(key, (k, response) -> response.completed() ? response : null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.back.global.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 여러 노드가 같은 키를 공유해야 할 때 사용한다. 선점은 PK 중복으로 판단하고,
+// 다른 노드에서도 바로 보이도록 요청 트랜잭션과 별도로 커밋한다.
+@Component
+@ConditionalOnProperty(name = "custom.idempotency.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong lastPurgedAt = new AtomicLong(System.nanoTime());
+
+    @Override
+    public Optional<IdempotencyResponse> find(String key) {
+        return jdbcTemplate.query(
+                        "SELECT fingerprint, result_code, msg, body FROM idempotency_record WHERE idempotency_key = ? AND expires_at > ?",
+                        (rs, rowNum) -> new IdempotencyResponse(
+                                rs.getString("fingerprint"),
+                                rs.getString("result_code"),
+                                rs.getString("msg"),
+                                rs.getString("body")
+                        ),
+                        key,
+                        Timestamp.valueOf(LocalDateTime.now())
+                )
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean reserve(String key, String fingerprint, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+
+        purgeExpiredIfDue(now);
+        jdbcTemplate.update(
+                "DELETE FROM idempotency_record WHERE idempotency_key = ? AND expires_at <= ?",
+                key,
+                Timestamp.valueOf(now)
+        );
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO idempotency_record (idempotency_key, fingerprint, expires_at) VALUES (?, ?, ?)",
+                    key,
+                    fingerprint,
+                    Timestamp.valueOf(now.plus(ttl))
+            );
+
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotencyResponse response, Duration ttl) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_record SET result_code = ?, msg = ?, body = ?, expires_at = ? WHERE idempotency_key = ?",
+                response.resultCode(),
+                response.msg(),
+                response.body(),
+                Timestamp.valueOf(LocalDateTime.now().plus(ttl)),
+                key
+        );
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(
+                "DELETE FROM idempotency_record WHERE idempotency_key = ? AND result_code IS NULL",
+                key
+        );
+    }
+
+    // 만료된 행은 조회에서 제외되므로 정리는 1분에 한 번이면 충분하다.
+    private void purgeExpiredIfDue(LocalDateTime now) {
+        long last = lastPurgedAt.get();
+
+        if (System.nanoTime() - last < PURGE_INTERVAL_NANOS) return;
+        if (!lastPurgedAt.compareAndSet(last, System.nanoTime())) return;
+
+        jdbcTemplate.update("DELETE FROM idempotency_record WHERE expires_at <= ?", Timestamp.valueOf(now));
+    }
+}
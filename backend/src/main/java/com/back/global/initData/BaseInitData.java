@@ -1,18 +1,24 @@
 package com.back.global.initData;
 
 import com.back.domain.order.orderItem.service.OrderItemService;
+import com.back.domain.order.orders.entity.PaymentStatus;
 import com.back.domain.order.orders.service.OrderService;
 import com.back.domain.product.product.entity.Product;
 import com.back.domain.product.product.service.ProductService;
+import com.back.domain.product.productImage.service.ProductImageStorage;
 import com.back.domain.user.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Configuration
@@ -25,6 +31,7 @@ public class BaseInitData {
     private final UserService userService;
     private final OrderService orderService;
     private final OrderItemService orderItemService;
+    private final ProductImageStorage productImageStorage;
 
     @Bean
     ApplicationRunner baseInitDataApplicationRunner() {
@@ -41,16 +48,24 @@ public class BaseInitData {
         if (productService.count() > 0) return;
 
         Product product1 = productService.create("Colombia Nariñó", 5000, "신선한 콜롬비아 원두입니다.", 100);
-        product1.addProductImage("http://localhost:8080/images/coffee_1.png");
+        product1.addProductImage(storeSampleImage("coffee_1.png"));
 
         Product product2 = productService.create("Brazil Serra Do Caparaó", 6000, "고소한 브라질 원두입니다.", 150);
-        product2.addProductImage("http://localhost:8080/images/coffee_2.jpg");
+        product2.addProductImage(storeSampleImage("coffee_2.jpg"));
 
         Product product3 = productService.create("Colombia Quindío (White Wine Extended Fermentation)", 6000, "달콤한 에티오피아 원두입니다.", 120);
-        product3.addProductImage("http://localhost:8080/images/coffee_3.png");
+        product3.addProductImage(storeSampleImage("coffee_3.png"));
 
         Product product4 = productService.create("Ethiopia Sidamo", 8000, "감미로운 에티오피아 원두입니다.", 80);
-        product4.addProductImage("http://localhost:8080/images/coffee_4.png");
+        product4.addProductImage(storeSampleImage("coffee_4.png"));
+    }
+
+    // 샘플 이미지도 업로드와 같은 경로로 저장해서 지문이 붙은 URL 을 쓴다.
+    @SneakyThrows
+    private String storeSampleImage(String fileName) {
+        try (InputStream inputStream = new ClassPathResource("static/images/" + fileName).getInputStream()) {
+            return productImageStorage.store(inputStream, StringUtils.getFilenameExtension(fileName));
+        }
     }
 
     @Transactional
@@ -66,10 +81,10 @@ public class BaseInitData {
 
     @Transactional
     public void work3() {
-        orderService.create(3, 16000, "card", "PENDING", 1, "서울시 강남구");
-        orderService.create(2, 11000, "card", "PENDING", 2, "서울시 서초구");
-        orderService.create(5, 32000, "bank_transfer", "COMPLETED", 1, "서울시 종로구");
-        orderService.create(1, 8000, "card", "COMPLETED", 3, "서울시 강동구");
+        orderService.create(3, 16000, "card", PaymentStatus.PENDING, 1, "서울시 강남구");
+        orderService.create(2, 11000, "card", PaymentStatus.PENDING, 2, "서울시 서초구");
+        orderService.create(5, 32000, "bank_transfer", PaymentStatus.COMPLETED, 1, "서울시 종로구");
+        orderService.create(1, 8000, "card", PaymentStatus.COMPLETED, 3, "서울시 강동구");
 
     }
 
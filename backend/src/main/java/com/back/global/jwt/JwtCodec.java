@@ -0,0 +1,115 @@
+package com.back.global.jwt;
+
+import com.back.standard.util.Ut;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+// 키와 파서는 한 번만 만든다.
+// 서명 키는 keyId(kid) 헤더로 구분하고, 교체 전 키(previousKeys)로 서명된 토큰은 만료될 때까지 검증만 한다.
+@Component
+public class JwtCodec {
+    private final String keyId;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    // 검증이 끝난 토큰의 SHA-256 다이제스트 -> 클레임. 토큰 만료 시각까지만 보관한다.
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtCodec(
+            @Value("${custom.jwt.keyId}") String keyId,
+            @Value("${custom.jwt.secretKey}") String secretKey,
+            @Value("#{${custom.jwt.previousKeys}}") Map<String, String> previousKeys,
+            @Value("${custom.jwt.verifiedCache.maxSize}") long verifiedCacheMaxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.keyId = keyId;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+
+        Map<String, SecretKey> verificationKeys = new HashMap<>();
+        previousKeys.forEach((kid, secret) -> verificationKeys.put(kid, Keys.hmacShaKeyFor(secret.getBytes())));
+        verificationKeys.put(keyId, signingKey);
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        // kid 가 없는 토큰은 kid 도입 전에 현재 키로 서명된 것이다.
+                        String kid = header.getKeyId();
+                        return kid == null ? signingKey : verificationKeys.get(kid);
+                    }
+                })
+                .build();
+
+        if (verifiedCacheMaxSize > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxSize)
+                    .expireAfter(Expiry.creating((String digest, Claims claims) -> timeToExpire(claims)))
+                    .recordStats()
+                    .build();
+
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerified");
+        } else {
+            this.verifiedTokens = null;
+        }
+    }
+
+    public String encode(int expireSeconds, Map<String, Object> body) {
+        Date issuedAt = new Date();
+        Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
+
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .claims(body)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(signingKey)
+                .compact();
+    }
+
+    // 유효하지 않거나 만료되었으면 null
+    public Map<String, Object> decode(String token) {
+        if (verifiedTokens == null) return verify(token);
+
+        // 토큰 원문 대신 다이제스트를 키로 써서 메모리에 베어러 토큰을 남기지 않는다.
+        String digest = Ut.digest.sha256(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) return cached;
+
+        Claims claims = verify(token);
+        if (claims != null && claims.getExpiration() != null) verifiedTokens.put(digest, claims);
+
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Duration timeToExpire(Claims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
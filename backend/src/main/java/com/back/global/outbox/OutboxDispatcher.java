@@ -0,0 +1,176 @@
+package com.back.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// outbox_event 를 batchSize 씩 가져와 핸들러에 넘긴다. 이벤트마다 가상 스레드를 쓰고,
+// 동시에 실행되는 핸들러 수는 maxConcurrency 로 묶는다. 한 배치가 끝나야 다음 배치를 가져오므로
+// 핸들러가 느려지면 이벤트는 메모리가 아니라 테이블에 쌓인다.
+// 핸들러가 실패하거나 노드가 전달 도중 죽으면(임대 만료) 다시 전달한다.
+@Component
+@Slf4j
+public class OutboxDispatcher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<OutboxEventHandler<?>>> handlersByEventType;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration lease;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore concurrency;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryTimer;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            ObjectProvider<OutboxEventHandler<?>> handlers,
+            MeterRegistry meterRegistry,
+            @Value("${custom.outbox.batchSize}") int batchSize,
+            @Value("${custom.outbox.maxBatchesPerPoll}") int maxBatchesPerPoll,
+            @Value("${custom.outbox.maxConcurrency}") int maxConcurrency,
+            @Value("${custom.outbox.leaseSeconds}") long leaseSeconds,
+            @Value("${custom.outbox.retryBaseDelayMillis}") long retryBaseDelayMillis,
+            @Value("${custom.outbox.retryMaxDelayMillis}") long retryMaxDelayMillis
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.handlersByEventType = handlers.orderedStream()
+                .collect(Collectors.groupingBy(handler -> OutboxEventPublisher.eventType(handler.payloadType())));
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.concurrency = new Semaphore(maxConcurrency);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryBaseDelay = Duration.ofMillis(retryBaseDelayMillis);
+        this.retryMaxDelay = Duration.ofMillis(retryMaxDelayMillis);
+
+        Gauge.builder("outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래 전달되지 않은 이벤트가 기다린 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.dispatchedCounter = Counter.builder("outbox.dispatched")
+                .description("전달을 마친 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.failed")
+                .description("핸들러가 실패해 다시 전달할 이벤트 수")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("outbox.delivery")
+                .description("이벤트 하나를 모든 핸들러에 전달하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${custom.outbox.pollIntervalMillis}",
+            fixedDelayString = "${custom.outbox.pollIntervalMillis}"
+    )
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            if (dispatchBatch() < batchSize) break;
+        }
+
+        lagSeconds.set(
+                outboxEventRepository.findOldestCreateDate()
+                        .map(createDate -> Math.max(0, Duration.between(createDate, LocalDateTime.now()).toSeconds()))
+                        .orElse(0L)
+        );
+    }
+
+    // 한 배치를 가져와 전달이 모두 끝날 때까지 기다린다. 가져온 이벤트 수를 반환
+    public int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventDto> events = outboxEventRepository.claim(batchSize, now, now.plus(lease));
+
+        List<Future<?>> futures = events.stream()
+                .<Future<?>>map(event -> executorService.submit(() -> deliver(event)))
+                .toList();
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.error("outbox 이벤트 전달 중 오류", e.getCause());
+            }
+        }
+
+        return events.size();
+    }
+
+    private void deliver(OutboxEventDto event) {
+        try {
+            concurrency.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            deliveryTimer.record(() -> handle(event));
+            outboxEventRepository.delete(event.id());
+            dispatchedCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("outbox 이벤트 {}번({}) 전달 실패, {}번째 시도", event.id(), event.eventType(), event.attempts(), e);
+            outboxEventRepository.retryLater(event.id(), LocalDateTime.now().plus(retryDelay(event.attempts())), e.getMessage());
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    private void handle(OutboxEventDto event) {
+        for (OutboxEventHandler<?> handler : handlersByEventType.getOrDefault(event.eventType(), List.of())) {
+            handle(handler, event.payload());
+        }
+    }
+
+    private <T> void handle(OutboxEventHandler<T> handler, String payload) {
+        try {
+            handler.handle(objectMapper.readValue(payload, handler.payloadType()));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 시도할 때마다 두 배씩, retryMaxDelay 까지
+    private Duration retryDelay(int attempts) {
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+
+        return delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
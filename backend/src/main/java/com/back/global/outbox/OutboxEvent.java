@@ -0,0 +1,42 @@
+package com.back.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// OutboxEventRepository 가 쓰는 테이블. 스키마 관리를 다른 테이블과 같이 JPA 에 맡기기 위한 매핑이다.
+// 전달이 끝난 행은 지우므로 테이블에는 아직 전달되지 않은 이벤트만 남는다.
+@Entity
+@Table(
+        name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_available_at_id", columnList = "available_at, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(length = 100, nullable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createDate;
+
+    // 이 시각 이후에 가져갈 수 있다. 가져가면 임대 만료 시각, 실패하면 다음 재시도 시각으로 바뀐다.
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+}
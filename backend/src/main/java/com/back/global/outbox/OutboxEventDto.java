@@ -0,0 +1,12 @@
+package com.back.global.outbox;
+
+import java.time.LocalDateTime;
+
+public record OutboxEventDto(
+        long id,
+        String eventType,
+        String payload,
+        int attempts,
+        LocalDateTime createDate
+) {
+}
@@ -0,0 +1,9 @@
+package com.back.global.outbox;
+
+// 빈으로 등록하면 OutboxDispatcher 가 payloadType 의 이벤트를 넘겨준다.
+// 같은 이벤트가 두 번 이상 올 수 있으므로(at-least-once) 여러 번 처리해도 결과가 같아야 한다.
+public interface OutboxEventHandler<T> {
+    Class<T> payloadType();
+
+    void handle(T event) throws Exception;
+}
@@ -0,0 +1,43 @@
+package com.back.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 이벤트를 outbox_event 에 적어 두면 OutboxDispatcher 가 커밋 이후에 따로 전달한다.
+// 호출한 쪽 트랜잭션과 함께 커밋되므로 롤백되면 이벤트도 남지 않는다.
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public static String eventType(Class<?> payloadType) {
+        return payloadType.getSimpleName();
+    }
+
+    public void publish(Object event) {
+        publishAll(List.of(event));
+    }
+
+    public void publishAll(List<?> events) {
+        outboxEventRepository.insertAll(
+                events.stream()
+                        .map(event -> new OutboxEventRepository.NewEvent(eventType(event.getClass()), toJson(event)))
+                        .toList(),
+                LocalDateTime.now()
+        );
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트를 JSON 으로 바꿀 수 없습니다: " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.back.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+// 호출한 쪽에 트랜잭션이 있으면 합류하고, 없으면 문장마다 따로 커밋한다.
+@Repository
+@RequiredArgsConstructor
+@Transactional
+public class OutboxEventRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public record NewEvent(String eventType, String payload) {
+    }
+
+    public void insertAll(List<NewEvent> events, LocalDateTime now) {
+        if (events.isEmpty()) return;
+
+        Timestamp createDate = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO outbox_event (event_type, payload, create_date, available_at, attempts) VALUES (?, ?, ?, ?, 0)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NewEvent event = events.get(i);
+                        ps.setString(1, event.eventType());
+                        ps.setString(2, event.payload());
+                        ps.setTimestamp(3, createDate);
+                        ps.setTimestamp(4, createDate);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                }
+        );
+    }
+
+    // 가져갈 수 있는 이벤트를 골라 available_at 을 임대 만료 시각으로 미룬다.
+    // 다른 노드가 먼저 미룬 행은 조건부 UPDATE 가 0 건이 되므로 건너뛴다. 잠금을 기다리지 않는다.
+    public List<OutboxEventDto> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+
+        List<OutboxEventDto> candidates = jdbcTemplate.query(
+                """
+                        SELECT id, event_type, payload, attempts, create_date
+                        FROM outbox_event
+                        WHERE available_at <= ?
+                        ORDER BY available_at ASC, id ASC
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new OutboxEventDto(
+                        rs.getLong("id"),
+                        rs.getString("event_type"),
+                        rs.getString("payload"),
+                        rs.getInt("attempts") + 1,
+                        rs.getTimestamp("create_date").toLocalDateTime()
+                ),
+                nowTimestamp,
+                limit
+        );
+
+        if (candidates.isEmpty()) return candidates;
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(
+                "UPDATE outbox_event SET available_at = ?, attempts = attempts + 1 WHERE id = ? AND available_at <= ?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setTimestamp(1, Timestamp.valueOf(leaseUntil));
+                        ps.setLong(2, candidates.get(i).id());
+                        ps.setTimestamp(3, nowTimestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return candidates.size();
+                    }
+                }
+        );
+
+        return IntStream.range(0, candidates.size())
+                .filter(i -> updateCounts[i] != 0)
+                .mapToObj(candidates::get)
+                .toList();
+    }
+
+    public void delete(long id) {
+        jdbcTemplate.update("DELETE FROM outbox_event WHERE id = ?", id);
+    }
+
+    public void retryLater(long id, LocalDateTime availableAt, String error) {
+        jdbcTemplate.update(
+                "UPDATE outbox_event SET available_at = ?, last_error = ? WHERE id = ?",
+                Timestamp.valueOf(availableAt),
+                error == null || error.length() <= 500 ? error : error.substring(0, 500),
+                id
+        );
+    }
+
+    // 가장 오래 기다린 이벤트의 생성 시각. id 순서가 생성 순서와 같으므로 PK 로 바로 찾는다.
+    public Optional<LocalDateTime> findOldestCreateDate() {
+        return jdbcTemplate.query(
+                        "SELECT create_date FROM outbox_event ORDER BY id ASC LIMIT 1",
+                        (rs, rowNum) -> rs.getTimestamp("create_date").toLocalDateTime()
+                )
+                .stream()
+                .findFirst();
+    }
+}
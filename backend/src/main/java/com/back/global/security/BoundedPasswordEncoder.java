@@ -0,0 +1,114 @@
+package com.back.global.security;
+
+import com.back.global.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// BCrypt 는 한 번에 수십~수백 ms 동안 CPU 를 쓴다. 요청 스레드에서 바로 돌리면 로그인이 몰릴 때 다른 API 까지 스레드를 잃는다.
+// 해싱은 poolSize 개의 전용 스레드에서만 돌리고, 대기열(queueCapacity)이 차 있으면 바로 429, waitTimeout 안에 끝나지 않으면 503 으로 거절한다.
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int poolSize,
+            int queueCapacity,
+            Duration waitTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.waitTimeout = waitTimeout;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueFullCounter = Counter.builder("password.hash.rejected")
+                .tag("reason", "queueFull")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hash.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+
+        // executor.queued, executor.active 등 대기열 길이와 사용 중인 스레드 수
+        new ExecutorServiceMetrics(executor, "passwordHash", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> task, Timer timer) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new ServiceException("429-1", "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new ServiceException("503-1", "요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceException("503-1", "요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
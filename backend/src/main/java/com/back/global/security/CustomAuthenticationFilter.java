@@ -1,6 +1,7 @@
 package com.back.global.security;
 
 import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.service.AccessTokenRefresher;
 import com.back.domain.user.user.service.UserAuthTokenService;
 import com.back.domain.user.user.service.UserService;
 import com.back.global.exception.ServiceException;
@@ -23,7 +24,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -32,6 +32,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
     private final Rq rq;
     private final UserService userService;
     private final UserAuthTokenService userAuthTokenService;
+    private final AccessTokenRefresher accessTokenRefresher;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -105,42 +106,42 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         if (!isAccessTokenValid && !refreshToken.isBlank()) {
             logger.debug("Attempting to refresh Access Token using Refresh Token.");
             try {
-                // 리프레시 토큰 검증 및 페이로드 추출
-                Map<String, Object> refreshPayload = userAuthTokenService.payloadRefreshToken(refreshToken);
-
-                if (refreshPayload != null) {
-                    int userId = (int) refreshPayload.get("id");
-                    Optional<User> userOptional = userService.findById(userId);
-
-                    if (userOptional.isPresent()) {
-                        User foundUser = userOptional.get();
-                        // DB에 저장된 리프레시 토큰과 현재 리프레시 토큰이 일치하는지 확인
-                        if (refreshToken.equals(foundUser.getRefreshToken())) {
-                            user = foundUser; // 사용자 정보 갱신
-                            String newAccessToken = userService.genAccessToken(user);
-                            rq.setCookie("accessToken", newAccessToken); // 새로운 액세스 토큰 쿠키에 설정
-                            rq.setHeader("Authorization", "Bearer " + newAccessToken); // 응답 헤더에도 설정 (클라이언트 즉시 사용 가능)
-                            isAccessTokenValid = true; // 새로운 액세스 토큰 발급 성공
-                            logger.debug("Successfully refreshed Access Token for user: " + user.getUsername());
-                        } else {
-                            // DB 토큰 불일치: 탈취 가능성, 모든 토큰 삭제 후 재로그인 유도
-                            logger.warn("Mismatch Refresh Token for user ID: " + userId + ". Clearing cookies.");
-                            rq.deleteCookie("accessToken");
-                            rq.deleteCookie("refreshToken");
-                            rq.deleteCookie("apiKey");
-                            throw new ServiceException("401-4", "유효하지 않은 리프레시 토큰입니다. 다시 로그인 해주세요.");
-                        }
-                    } else {
-                        // 리프레시 토큰 페이로드의 사용자 ID가 DB에 없는 경우
+                // 같은 리프레시 토큰으로 동시에 들어온 요청은 한 번의 검증/조회/발급 결과를 같이 쓴다.
+                AccessTokenRefresher.Result refreshed = accessTokenRefresher.refresh(refreshToken);
+                int userId = refreshed.userId();
+
+                switch (refreshed.status()) {
+                    case REFRESHED -> {
+                        user = refreshed.principal().toUser();
+                        String newAccessToken = refreshed.accessToken();
+                        rq.setCookie("accessToken", newAccessToken); // 새로운 액세스 토큰 쿠키에 설정
+                        // 회전된 리프레시 토큰. 같이 들어온 다른 요청은 받지 않으므로 쿠키를 그대로 둔다.
+                        if (refreshed.refreshToken() != null)
+                            rq.setCookie("refreshToken", refreshed.refreshToken(), true);
+                        rq.setHeader("Authorization", "Bearer " + newAccessToken); // 응답 헤더에도 설정 (클라이언트 즉시 사용 가능)
+                        isAccessTokenValid = true; // 새로운 액세스 토큰 발급 성공
+                        logger.debug("Successfully refreshed Access Token for user: " + user.getUsername());
+                    }
+                    case TOKEN_MISMATCH -> {
+                        // 이미 쓴 리프레시 토큰 재사용: 탈취 가능성, 계열 폐기 후 재로그인 유도
+                        logger.warn("Mismatch Refresh Token for user ID: " + userId + ". Clearing cookies.");
+                        rq.deleteCookie("accessToken");
+                        rq.deleteCookie("refreshToken");
+                        rq.deleteCookie("apiKey");
+                        throw new ServiceException("401-4", "유효하지 않은 리프레시 토큰입니다. 다시 로그인 해주세요.");
+                    }
+                    case USER_NOT_FOUND -> {
+                        // 리프레시 토큰의 사용자가 DB에 없는 경우
                         logger.warn("User not found from Refresh Token payload for ID: " + userId);
                         rq.deleteCookie("refreshToken");
                         throw new ServiceException("401-5", "리프레시 토큰이 유효하지 않습니다. 다시 로그인 해주세요.");
                     }
-                } else {
-                    // 리프레시 토큰 자체가 유효하지 않거나 만료된 경우
-                    logger.warn("Invalid or expired Refresh Token. Clearing cookies.");
-                    rq.deleteCookie("refreshToken"); // 유효하지 않거나 만료된 리프레시 토큰 삭제
-                    throw new ServiceException("401-6", "리프레시 토큰이 만료되었습니다. 다시 로그인 해주세요.");
+                    case INVALID_TOKEN -> {
+                        // 리프레시 토큰 자체가 유효하지 않거나 만료된 경우
+                        logger.warn("Invalid or expired Refresh Token. Clearing cookies.");
+                        rq.deleteCookie("refreshToken"); // 유효하지 않거나 만료된 리프레시 토큰 삭제
+                        throw new ServiceException("401-6", "리프레시 토큰이 만료되었습니다. 다시 로그인 해주세요.");
+                    }
                 }
             } catch (ServiceException e) {
                 throw e; // 예상된 ServiceException은 상위 catch 블록에서 처리
@@ -154,7 +155,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         // API 키를 사용한 인증 시도
         if (user == null && !apiKey.isBlank()) {
             logger.debug("Attempting to authenticate using API Key.");
-            user = userService.findByApiKey(apiKey)
+            user = userService.findPrincipalByApiKey(apiKey)
                     .orElseThrow(() -> new ServiceException("401-3", "API 키가 유효하지 않습니다."));
             logger.debug("Authenticated using API Key for user: " + user.getUsername());
         }
@@ -0,0 +1,34 @@
+package com.back.global.security;
+
+import com.back.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.domain.order.orders.repository.OrderRepository;
+import com.back.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+// 엔티티를 읽지 않고 존재 쿼리로 소유자를 확인한다.
+// 본인 데이터면 쿼리 한 번으로 끝나고, 아닐 때만 없는 데이터(404)인지 남의 데이터(403)인지 한 번 더 확인한다.
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OwnershipChecker {
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    public void checkOrder(int orderId, UserSecurityUser actor, String action) {
+        if (actor != null && orderRepository.existsByIdAndUserId(orderId, actor.getId())) return;
+        if (!orderRepository.existsById(orderId)) throw new NoSuchElementException();
+
+        throw new ServiceException("403-1", "본인의 주문만 %s할 수 있습니다.".formatted(action));
+    }
+
+    public void checkOrderItem(int orderItemId, UserSecurityUser actor, String action) {
+        if (actor != null && orderItemRepository.existsByIdAndOrderUserId(orderItemId, actor.getId())) return;
+        if (!orderItemRepository.existsById(orderItemId)) throw new NoSuchElementException();
+
+        throw new ServiceException("403-1", "본인의 주문만 %s할 수 있습니다.".formatted(action));
+    }
+}
@@ -0,0 +1,73 @@
+package com.back.global.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class PasswordEncoderConfig {
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    @Bean
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${custom.passwordHash.poolSize}") int poolSize,
+            @Value("${custom.passwordHash.queueCapacity}") int queueCapacity,
+            @Value("${custom.passwordHash.waitTimeoutMillis}") long waitTimeoutMillis,
+            @Value("${custom.passwordHash.targetMillis}") long targetMillis,
+            @Value("${custom.passwordHash.minStrength}") int minStrength,
+            @Value("${custom.passwordHash.maxStrength}") int maxStrength,
+            MeterRegistry meterRegistry
+    ) {
+        int strength = calibrateStrength(Duration.ofMillis(targetMillis), minStrength, maxStrength);
+
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(strength),
+                poolSize,
+                queueCapacity,
+                Duration.ofMillis(waitTimeoutMillis),
+                meterRegistry
+        );
+    }
+
+    // 이 서버에서 minStrength 로 해싱하는 시간을 재서, target 을 넘지 않는 가장 큰 strength 를 고른다.
+    // strength 가 1 오를 때마다 시간이 두 배가 된다. 이미 저장된 해시는 자기 strength 로 검증되므로 바뀌어도 로그인에는 영향이 없다.
+    static int calibrateStrength(Duration target, int minStrength, int maxStrength) {
+        if (minStrength >= maxStrength) return minStrength;
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode("warm-up");
+
+        long measuredNanos = Long.MAX_VALUE;
+
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long startNanos = System.nanoTime();
+            encoder.encode("calibration");
+            measuredNanos = Math.min(measuredNanos, System.nanoTime() - startNanos);
+        }
+
+        int strength = minStrength;
+        long estimatedNanos = measuredNanos;
+
+        while (strength < maxStrength && estimatedNanos * 2 <= target.toNanos()) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        log.info(
+                "BCrypt strength {} 사용 (strength {} 측정 {}ms, 예상 {}ms, 목표 {}ms)",
+                strength,
+                minStrength,
+                Duration.ofNanos(measuredNanos).toMillis(),
+                Duration.ofNanos(estimatedNanos).toMillis(),
+                target.toMillis()
+        );
+
+        return strength;
+    }
+}
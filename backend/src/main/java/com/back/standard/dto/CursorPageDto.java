@@ -0,0 +1,11 @@
+package com.back.standard.dto;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+        @NonNull List<T> items,
+        String nextCursor
+) {
+}
@@ -10,10 +10,15 @@ import lombok.SneakyThrows;
 import javax.crypto.SecretKey;
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public class Ut {
     public static class jwt {
@@ -89,6 +94,41 @@ public class Ut {
         }
     }
 
+    public static class cursor {
+        private static final String DELIMITER = "|";
+
+        public static String encode(Object... parts) {
+            String joined = Arrays.stream(parts)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(DELIMITER));
+
+            return Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 형식이 올바르지 않으면 null
+        public static String[] decode(String cursor, int partsCount) {
+            try {
+                String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = joined.split(Pattern.quote(DELIMITER), -1);
+
+                return parts.length == partsCount ? parts : null;
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    public static class digest {
+        // 토큰/키 원문 대신 캐시 키로 쓴다.
+        @SneakyThrows
+        public static String sha256(String value) {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        }
+    }
+
     public static class cmd {
         @SneakyThrows
         public static void run(String... args) {
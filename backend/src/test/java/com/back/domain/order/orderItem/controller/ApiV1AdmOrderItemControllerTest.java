@@ -4,6 +4,7 @@ package com.back.domain.order.orderItem.controller;
 import com.back.domain.order.orderItem.service.OrderItemService;
 import com.back.domain.order.orders.service.OrderService;
 import com.back.domain.user.user.service.UserService;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,11 +14,13 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -165,4 +168,23 @@ public class ApiV1AdmOrderItemControllerTest {
 
     }
 
+    @Test
+    @DisplayName("주문 아이템 내보내기 - CSV")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t11() throws Exception {
+        MvcResult mvcResult = mvc
+                .perform(get("/api/v1/adm/orderItems/export"))
+                .andExpect(handler().handlerType(ApiV1AdmOrderItemController.class))
+                .andExpect(handler().methodName("export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(Matchers.startsWith(
+                        "\uFEFFid,createDate,modifyDate,orderId,productId,quantity,unitPrice,totalPrice\r\n1,"
+                )))
+                .andExpect(content().string(Matchers.containsString(",1,1,2,5000,10000\r\n")));
+    }
 }
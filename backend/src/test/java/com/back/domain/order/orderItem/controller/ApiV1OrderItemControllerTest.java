@@ -1,10 +1,17 @@
 package com.back.domain.order.orderItem.controller;
 
 
+import com.back.domain.order.orderItem.entity.OrderItem;
 import com.back.domain.order.orderItem.service.OrderItemService;
 import com.back.domain.order.orders.service.OrderService;
+import com.back.domain.product.product.entity.Product;
+import com.back.domain.product.product.service.ProductService;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.service.UserService;
+import com.back.global.exception.ServiceException;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,8 +23,14 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -40,6 +53,12 @@ public class ApiV1OrderItemControllerTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
 
     @Test
     @DisplayName("주문 아이템 생성 테스트")
@@ -74,6 +93,112 @@ public class ApiV1OrderItemControllerTest {
                 .andExpect(jsonPath("$.data.productId").value(1));
     }
 
+    @Test
+    @DisplayName("주문 아이템 생성 시 상품 재고가 차감된다")
+    @WithMockUser
+    void t1_1() throws Exception {
+        int stock = productService.findById(1).get().getStock();
+
+        mvc.perform(
+                        post("/api/v1/orderItems")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "orderId": 1,
+                                            "quantity": 3,
+                                            "unitPrice": 5000,
+                                            "productId": 1
+                                        }
+                                        """)
+                                .with(csrf())
+                )
+                .andDo(print())
+                .andExpect(status().isCreated());
+
+        entityManager.clear();
+
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(stock - 3);
+    }
+
+    @Test
+    @DisplayName("주문 아이템 생성 - 재고 부족")
+    @WithMockUser
+    void t1_2() throws Exception {
+        int stock = productService.findById(1).get().getStock();
+
+        mvc.perform(
+                        post("/api/v1/orderItems")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "orderId": 1,
+                                            "quantity": %d,
+                                            "unitPrice": 5000,
+                                            "productId": 1
+                                        }
+                                        """.formatted(stock + 1))
+                                .with(csrf())
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(ApiV1OrderItemController.class))
+                .andExpect(handler().methodName("create"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.resultCode").value("409-1"))
+                .andExpect(jsonPath("$.msg").value("1번 상품의 재고가 부족합니다."));
+
+        entityManager.clear();
+
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("주문 아이템 동시 생성 - 재고만큼만 성공하고 재고가 음수가 되지 않는다")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void t1_3() throws Exception {
+        int stock = 100;
+        int threadCount = 32;
+        int requestCount = 300;
+
+        // 여러 스레드가 커밋된 데이터를 봐야 하므로 이 테스트는 트랜잭션 밖에서 실행하고 직접 정리한다.
+        Product product = productService.create("동시성 테스트 원두", 5000, "동시성 테스트용 상품입니다.", stock);
+        List<OrderItem> orderItems = new CopyOnWriteArrayList<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            AtomicInteger outOfStockCount = new AtomicInteger();
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch doneLatch = new CountDownLatch(requestCount);
+
+            for (int i = 0; i < requestCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        orderItems.add(orderItemService.create(1, 1, 5000, product.getId()));
+                    } catch (ServiceException e) {
+                        if (e.getRsData().resultCode().equals("409-1")) outOfStockCount.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            assertThat(doneLatch.await(30, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(orderItems).hasSize(stock);
+            assertThat(outOfStockCount.get()).isEqualTo(requestCount - stock);
+            assertThat(productService.findById(product.getId()).get().getStock()).isZero();
+        } finally {
+            executorService.shutdownNow();
+
+            orderItems.forEach(orderItemService::delete);
+            productService.delete(productService.findById(product.getId()).get());
+        }
+    }
+
 
 
 
@@ -253,6 +378,31 @@ public class ApiV1OrderItemControllerTest {
                 .andExpect(jsonPath("$.msg").value("본인의 주문만 삭제할 수 있습니다."));
     }
 
+    @Test
+    @DisplayName("주문 아이템 삭제 테스트 - 본인 확인은 존재 쿼리로 하고 주문은 지연 로딩한다")
+    void t13_1() throws Exception {
+        entityManager.clear();
+
+        OrderItem orderItem = orderItemService.findById(3).get();
+
+        assertThat(Hibernate.isInitialized(orderItem.getOrder())).isFalse();
+        assertThat(orderItem.getOrder().getId()).isEqualTo(2);
+
+        User user = userService.findByUsername("user2").get();
+        String userApiKey = user.getApiKey();
+
+        mvc
+                .perform(
+                        delete("/api/v1/orderItems/3")
+                                .cookie(new Cookie("apiKey", userApiKey))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+
+        assertThat(orderItemService.findById(3)).isEmpty();
+    }
+
     @Test
     @DisplayName("존재하지 않는 주문 아이템 삭제 테스트")
     @WithMockUser
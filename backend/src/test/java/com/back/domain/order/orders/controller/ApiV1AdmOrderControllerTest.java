@@ -1,9 +1,15 @@
 package com.back.domain.order.orders.controller;
 
 
+import com.back.domain.order.orders.dto.OrderCheckoutLineDto;
 import com.back.domain.order.orders.entity.Orders;
 import com.back.domain.order.orders.service.OrderService;
 import com.back.domain.user.user.service.UserService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +20,14 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -39,6 +48,12 @@ public class ApiV1AdmOrderControllerTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
 
     @Test
     @DisplayName("주문 단건 조회 테스트")
@@ -64,7 +79,7 @@ public class ApiV1AdmOrderControllerTest {
                 .andExpect(jsonPath("$.orderCount").value(order.getOrderCount()))
                 .andExpect(jsonPath("$.totalPrice").value(order.getTotalPrice()))
                 .andExpect(jsonPath("$.paymentMethod").value(order.getPaymentMethod()))
-                .andExpect(jsonPath("$.paymentStatus").value(order.getPaymentStatus()));
+                .andExpect(jsonPath("$.paymentStatus").value(order.getPaymentStatus().name()));
 
     }
 
@@ -114,7 +129,7 @@ public class ApiV1AdmOrderControllerTest {
                     .andExpect(jsonPath("$[" + i + "].orderCount").value(order.getOrderCount()))
                     .andExpect(jsonPath("$[" + i + "].totalPrice").value(order.getTotalPrice()))
                     .andExpect(jsonPath("$[" + i + "].paymentMethod").value(order.getPaymentMethod()))
-                    .andExpect(jsonPath("$[" + i + "].paymentStatus").value(order.getPaymentStatus()));
+                    .andExpect(jsonPath("$[" + i + "].paymentStatus").value(order.getPaymentStatus().name()));
         }
     }
 
@@ -145,7 +160,7 @@ public class ApiV1AdmOrderControllerTest {
                     .andExpect(jsonPath("$[" + i + "].orderCount").value(order.getOrderCount()))
                     .andExpect(jsonPath("$[" + i + "].totalPrice").value(order.getTotalPrice()))
                     .andExpect(jsonPath("$[" + i + "].paymentMethod").value(order.getPaymentMethod()))
-                    .andExpect(jsonPath("$[" + i + "].paymentStatus").value(order.getPaymentStatus()));
+                    .andExpect(jsonPath("$[" + i + "].paymentStatus").value(order.getPaymentStatus().name()));
         }
     }
 
@@ -206,5 +221,211 @@ public class ApiV1AdmOrderControllerTest {
                 .andExpect(jsonPath("$.msg").value("%d번 주문이 수정되었습니다.".formatted(order.getId())));
     }
 
+    @Test
+    @DisplayName("주문 내역 조회 - 주문 수와 무관하게 쿼리는 두 번만 실행")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t10() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            orderService.checkout(
+                    2,
+                    List.of(new OrderCheckoutLineDto(1, 1), new OrderCheckoutLineDto(2, 1)),
+                    "card",
+                    "서울시 서초구"
+            );
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        int orderCount = orderService.findAll().size();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/adm/orders/history")
+                                .param("size", "100")
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(ApiV1AdmOrderController.class))
+                .andExpect(handler().methodName("getOrderHistory"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(orderCount))
+                .andExpect(jsonPath("$.items[0].order.userName").value("user2"))
+                .andExpect(jsonPath("$.items[0].orderItems.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - 특정 사용자")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t10_1() throws Exception {
+        List<Orders> orders = orderService.findByUserId(1);
+
+        mvc
+                .perform(
+                        get("/api/v1/adm/orders/history")
+                                .param("userId", "1")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(orders.size()))
+                .andExpect(jsonPath("$.items[*].order.userId").value(Matchers.everyItem(Matchers.is(1))));
+    }
+
+    @Test
+    @DisplayName("주문 검색 - 결제 상태")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t11() throws Exception {
+        mvc
+                .perform(
+                        get("/api/v1/adm/orders/search")
+                                .param("paymentStatus", "COMPLETED")
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(ApiV1AdmOrderController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].order.id").value(4))
+                .andExpect(jsonPath("$.items[1].order.id").value(3))
+                .andExpect(jsonPath("$.items[*].order.paymentStatus").value(Matchers.everyItem(Matchers.is("COMPLETED"))))
+                .andExpect(jsonPath("$.items[1].orderItems.length()").value(2))
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.totalCountCapped").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("주문 검색 - 사용자, 결제 수단, 최소 금액")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t11_1() throws Exception {
+        mvc
+                .perform(
+                        get("/api/v1/adm/orders/search")
+                                .param("userId", "1")
+                                .param("paymentMethod", "card")
+                                .param("minTotalPrice", "10000")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].order.id").value(1))
+                .andExpect(jsonPath("$.items[0].order.userName").value("user1"))
+                .andExpect(jsonPath("$.totalCount").value(1));
+    }
 
+    @Test
+    @DisplayName("주문 검색 - 커서로 다음 페이지 조회, 전체 건수는 첫 페이지에서만")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t11_2() throws Exception {
+        String body = mvc
+                .perform(
+                        get("/api/v1/adm/orders/search")
+                                .param("paymentStatus", "COMPLETED")
+                                .param("size", "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].order.id").value(4))
+                .andExpect(jsonPath("$.totalCount").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = JsonPath.read(body, "$.nextCursor");
+
+        mvc
+                .perform(
+                        get("/api/v1/adm/orders/search")
+                                .param("paymentStatus", "COMPLETED")
+                                .param("size", "1")
+                                .param("cursor", nextCursor)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].order.id").value(3))
+                .andExpect(jsonPath("$.totalCount").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("주문 검색 - 기간")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t11_3() throws Exception {
+        mvc
+                .perform(
+                        get("/api/v1/adm/orders/search")
+                                .param("startDate", "2000-01-01")
+                                .param("endDate", LocalDate.now().minusDays(1).toString())
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.totalCount").value(0));
+    }
+
+    @Test
+    @DisplayName("주문 검색 - 시작일이 종료일보다 늦으면 400")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t11_4() throws Exception {
+        mvc
+                .perform(
+                        get("/api/v1/adm/orders/search")
+                                .param("startDate", "2025-02-01")
+                                .param("endDate", "2025-01-01")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-2"))
+                .andExpect(jsonPath("$.msg").value("조회 시작일이 종료일보다 늦습니다."));
+    }
+
+    @Test
+    @DisplayName("주문 내보내기 - CSV")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t12() throws Exception {
+        MvcResult mvcResult = mvc
+                .perform(get("/api/v1/adm/orders/export"))
+                .andExpect(handler().handlerType(ApiV1AdmOrderController.class))
+                .andExpect(handler().methodName("export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", Matchers.startsWith("attachment; filename=\"orders-")))
+                .andExpect(content().string(Matchers.startsWith(
+                        "\uFEFFid,createDate,modifyDate,orderCount,totalPrice,paymentMethod,paymentStatus,address,userId,username\r\n1,"
+                )))
+                .andExpect(content().string(Matchers.containsString(",3,16000,card,PENDING,서울시 강남구,1,user1\r\n")));
+    }
+
+    @Test
+    @DisplayName("주문 내보내기 - NDJSON")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t12_1() throws Exception {
+        MvcResult mvcResult = mvc
+                .perform(get("/api/v1/adm/orders/export").param("format", "NDJSON"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String firstLine = body.lines().findFirst().orElseThrow();
+
+        assertThat((Integer) JsonPath.read(firstLine, "$.id")).isEqualTo(1);
+        assertThat((String) JsonPath.read(firstLine, "$.paymentStatus")).isEqualTo("PENDING");
+        assertThat((String) JsonPath.read(firstLine, "$.username")).isEqualTo("user1");
+        assertThat(body).endsWith("}\n");
+    }
 }
@@ -0,0 +1,193 @@
+package com.back.domain.order.orders.controller;
+
+import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.service.OrderService;
+import com.back.domain.product.product.entity.Product;
+import com.back.domain.product.product.service.ProductService;
+import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ApiV1CheckoutControllerTest {
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EntityManager entityManager;
+
+    private ResultActions checkout(String userApiKey, String body) throws Exception {
+        return mvc
+                .perform(
+                        post("/api/v1/checkout")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .cookie(new Cookie("apiKey", userApiKey))
+                                .content(body)
+                ).andDo(print());
+    }
+
+    @Test
+    @DisplayName("주문하기 - 가격과 합계는 서버에서 계산하고 재고를 차감한다")
+    void t1() throws Exception {
+        User user = userService.findByUsername("user1").get();
+        Product product1 = productService.findById(1).get();
+        Product product2 = productService.findById(2).get();
+        int product1Stock = product1.getStock();
+        int product2Stock = product2.getStock();
+
+        ResultActions resultActions = checkout(user.getApiKey(), """
+                {
+                    "items": [
+                        { "productId": 2, "quantity": 1 },
+                        { "productId": 1, "quantity": 2 },
+                        { "productId": 1, "quantity": 1 }
+                    ],
+                    "paymentMethod": "card",
+                    "address": "서울시 강남구"
+                }
+                """);
+
+        Orders order = orderService.findLatest().get();
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CheckoutController.class))
+                .andExpect(handler().methodName("checkout"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.resultCode").value("201-1"))
+                .andExpect(jsonPath("$.msg").value("%d번 주문이 생성되었습니다.".formatted(order.getId())))
+                .andExpect(jsonPath("$.data.order.id").value(order.getId()))
+                .andExpect(jsonPath("$.data.order.userId").value(user.getId()))
+                .andExpect(jsonPath("$.data.order.orderCount").value(4))
+                .andExpect(jsonPath("$.data.order.totalPrice").value(product1.getPrice() * 3 + product2.getPrice()))
+                .andExpect(jsonPath("$.data.order.paymentStatus").value("PENDING"))
+                .andExpect(jsonPath("$.data.orderItems.length()").value(2))
+                .andExpect(jsonPath("$.data.orderItems[0].productId").value(1))
+                .andExpect(jsonPath("$.data.orderItems[0].quantity").value(3))
+                .andExpect(jsonPath("$.data.orderItems[0].unitPrice").value(product1.getPrice()))
+                .andExpect(jsonPath("$.data.orderItems[0].totalPrice").value(product1.getPrice() * 3))
+                .andExpect(jsonPath("$.data.orderItems[1].productId").value(2));
+
+        entityManager.clear();
+
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(product1Stock - 3);
+        assertThat(productService.findById(2).get().getStock()).isEqualTo(product2Stock - 1);
+    }
+
+    @Test
+    @DisplayName("주문하기 - 재고가 부족한 상품이 있으면 아무것도 차감하지 않는다")
+    void t2() throws Exception {
+        User user = userService.findByUsername("user1").get();
+        int product1Stock = productService.findById(1).get().getStock();
+        int product2Stock = productService.findById(2).get().getStock();
+        int latestOrderId = orderService.findLatest().get().getId();
+
+        ResultActions resultActions = checkout(user.getApiKey(), """
+                {
+                    "items": [
+                        { "productId": 1, "quantity": 1 },
+                        { "productId": 2, "quantity": %d }
+                    ],
+                    "paymentMethod": "card",
+                    "address": "서울시 강남구"
+                }
+                """.formatted(product2Stock + 1));
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CheckoutController.class))
+                .andExpect(handler().methodName("checkout"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.resultCode").value("409-1"))
+                .andExpect(jsonPath("$.msg").value("2번 상품의 재고가 부족합니다."));
+
+        entityManager.clear();
+
+        assertThat(orderService.findLatest().get().getId()).isEqualTo(latestOrderId);
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(product1Stock);
+        assertThat(productService.findById(2).get().getStock()).isEqualTo(product2Stock);
+    }
+
+    @Test
+    @DisplayName("주문하기 - 존재하지 않는 상품")
+    void t3() throws Exception {
+        User user = userService.findByUsername("user1").get();
+
+        ResultActions resultActions = checkout(user.getApiKey(), """
+                {
+                    "items": [
+                        { "productId": 1, "quantity": 1 },
+                        { "productId": 999999, "quantity": 1 }
+                    ],
+                    "paymentMethod": "card",
+                    "address": "서울시 강남구"
+                }
+                """);
+
+        resultActions
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.resultCode").value("404-2"))
+                .andExpect(jsonPath("$.msg").value("999999번 상품이 존재하지 않습니다."));
+    }
+
+    @Test
+    @DisplayName("주문하기 - 빈 장바구니")
+    void t4() throws Exception {
+        User user = userService.findByUsername("user1").get();
+
+        ResultActions resultActions = checkout(user.getApiKey(), """
+                {
+                    "items": [],
+                    "paymentMethod": "card",
+                    "address": "서울시 강남구"
+                }
+                """);
+
+        resultActions
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"));
+    }
+
+    @Test
+    @DisplayName("주문하기 - 로그인 없이")
+    void t5() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/checkout")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "items": [{ "productId": 1, "quantity": 1 }],
+                                            "paymentMethod": "card",
+                                            "address": "서울시 강남구"
+                                        }
+                                        """)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-1"));
+    }
+}
@@ -3,8 +3,12 @@ package com.back.domain.order.orders.controller;
 
 import com.back.domain.order.orders.entity.Orders;
 import com.back.domain.order.orders.service.OrderService;
+import com.back.domain.product.product.service.ProductService;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.service.UserService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +23,9 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -39,6 +45,12 @@ public class ApiV1OrderControllerTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
 
     @Test
     @DisplayName("주문 생성 테스트")
@@ -75,12 +87,108 @@ public class ApiV1OrderControllerTest {
                 .andExpect(jsonPath("$.data.orderCount").value(order.getOrderCount()))
                 .andExpect(jsonPath("$.data.totalPrice").value(order.getTotalPrice()))
                 .andExpect(jsonPath("$.data.paymentMethod").value(order.getPaymentMethod()))
-                .andExpect(jsonPath("$.data.paymentStatus").value(order.getPaymentStatus()));
+                .andExpect(jsonPath("$.data.paymentStatus").value(order.getPaymentStatus().name()));
+
+    }
+
+
+
+
+    @Test
+    @DisplayName("주문 생성 - 같은 Idempotency-Key 로 재시도하면 저장된 응답을 돌려준다")
+    @WithMockUser
+    void t1_1() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        String body = """
+                {
+                    "orderCount": 2,
+                    "totalPrice": 50000,
+                    "paymentMethod": "CREDIT_CARD",
+                    "paymentStatus": "PENDING",
+                    "userId": 1,
+                    "address": "서울시 강남구"
+                }
+                """;
+
+        int orderCount = orderService.findAll().size();
+
+        mvc
+                .perform(
+                        post("/api/v1/orders")
+                                .header("Idempotency-Key", idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body)
+                )
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"));
+
+        Orders order = orderService.findLatest().get();
 
+        mvc
+                .perform(
+                        post("/api/v1/orders")
+                                .header("Idempotency-Key", idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("write"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.resultCode").value("201-1"))
+                .andExpect(jsonPath("$.msg").value("%d번 주문이 생성되었습니다.".formatted(order.getId())))
+                .andExpect(jsonPath("$.data.id").value(order.getId()))
+                .andExpect(jsonPath("$.data.totalPrice").value(50000));
+
+        assertThat(orderService.findAll()).hasSize(orderCount + 1);
     }
 
+    @Test
+    @DisplayName("주문 생성 - 같은 Idempotency-Key 로 다른 요청을 보내면 422")
+    @WithMockUser
+    void t1_2() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
 
+        mvc
+                .perform(
+                        post("/api/v1/orders")
+                                .header("Idempotency-Key", idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "orderCount": 2,
+                                            "totalPrice": 50000,
+                                            "paymentMethod": "CREDIT_CARD",
+                                            "paymentStatus": "PENDING",
+                                            "userId": 1,
+                                            "address": "서울시 강남구"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isCreated());
 
+        mvc
+                .perform(
+                        post("/api/v1/orders")
+                                .header("Idempotency-Key", idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "orderCount": 3,
+                                            "totalPrice": 70000,
+                                            "paymentMethod": "CREDIT_CARD",
+                                            "paymentStatus": "PENDING",
+                                            "userId": 1,
+                                            "address": "서울시 강남구"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.resultCode").value("422-1"))
+                .andExpect(jsonPath("$.msg").value("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."));
+    }
 
     @Test
     @DisplayName("주문 수정 테스트")
@@ -117,6 +225,74 @@ public class ApiV1OrderControllerTest {
                 .andExpect(jsonPath("$.msg").value("%d번 주문이 수정되었습니다.".formatted(order.getId())));
     }
 
+    private ResultActions updatePaymentStatus(int id, String paymentStatus, String userApiKey) throws Exception {
+        return mvc
+                .perform(
+                        put("/api/v1/orders/" + id)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .cookie(new Cookie("apiKey", userApiKey))
+                                .content("""
+                                        {
+                                            "orderCount": 3,
+                                            "totalPrice": 16000,
+                                            "paymentMethod": "card",
+                                            "paymentStatus": "%s",
+                                            "address": "서울시 강남구"
+                                        }
+                                        """.formatted(paymentStatus))
+                )
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("주문 수정 테스트 - 취소로 바꾸면 재고가 돌아오고, 그 뒤에 삭제해도 다시 돌려놓지 않는다")
+    void t5_1() throws Exception {
+        String userApiKey = userService.findByUsername("user1").get().getApiKey();
+        int product1Stock = productService.findById(1).get().getStock();
+        int product2Stock = productService.findById(2).get().getStock();
+
+        updatePaymentStatus(1, "CANCELED", userApiKey)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // 시드 주문 1: 상품1 2개, 상품2 1개
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(product1Stock + 2);
+        assertThat(productService.findById(2).get().getStock()).isEqualTo(product2Stock + 1);
+
+        mvc
+                .perform(
+                        delete("/api/v1/orders/1")
+                                .cookie(new Cookie("apiKey", userApiKey))
+                )
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(product1Stock + 2);
+    }
+
+    @Test
+    @DisplayName("주문 수정 테스트 - 취소된 주문은 다시 바꿀 수 없다")
+    void t5_2() throws Exception {
+        String userApiKey = userService.findByUsername("user1").get().getApiKey();
+
+        updatePaymentStatus(1, "CANCELED", userApiKey)
+                .andExpect(status().isOk());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        updatePaymentStatus(1, "PENDING", userApiKey)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.resultCode").value("409-3"))
+                .andExpect(jsonPath("$.msg").value("취소된 주문은 변경할 수 없습니다."));
+    }
+
     @Test
     @DisplayName("주문 수정 테스트 - 권한 없음 (다른 사용자의 주문)")
     void t7() throws Exception {
@@ -202,6 +378,26 @@ public class ApiV1OrderControllerTest {
                 .andExpect(jsonPath("$.msg").value("본인의 주문만 삭제할 수 있습니다."));
     }
 
+    @Test
+    @DisplayName("주문 삭제 테스트 - 존재하지 않는 주문")
+    void t8_1() throws Exception {
+        User user = userService.findByUsername("user1").get();
+        String userApiKey = user.getApiKey();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        delete("/api/v1/orders/999")
+                                .cookie(new Cookie("apiKey", userApiKey))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1OrderController.class))
+                .andExpect(handler().methodName("delete"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.resultCode").value("404-1"));
+    }
+
 
     @Test
     @DisplayName("주문 다건 조회 테스트 (my 검색)")
@@ -234,7 +430,7 @@ public class ApiV1OrderControllerTest {
                     .andExpect(jsonPath("$[" + i + "].orderCount").value(order.getOrderCount()))
                     .andExpect(jsonPath("$[" + i + "].totalPrice").value(order.getTotalPrice()))
                     .andExpect(jsonPath("$[" + i + "].paymentMethod").value(order.getPaymentMethod()))
-                    .andExpect(jsonPath("$[" + i + "].paymentStatus").value(order.getPaymentStatus()));
+                    .andExpect(jsonPath("$[" + i + "].paymentStatus").value(order.getPaymentStatus().name()));
         }
     }
 
@@ -255,7 +451,76 @@ public class ApiV1OrderControllerTest {
                 .andExpect(jsonPath("$.msg").value("로그인 후 이용해주세요."));
     }
 
+    @Test
+    @DisplayName("내 주문 내역 조회 - 아이템 포함, 커서로 다음 페이지 조회")
+    void t12() throws Exception {
+        User user = userService.findByUsername("user1").get();
+        String userApiKey = user.getApiKey();
+
+        String body = mvc
+                .perform(
+                        get("/api/v1/orders/my/history")
+                                .param("size", "1")
+                                .cookie(new Cookie("apiKey", userApiKey))
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(ApiV1OrderController.class))
+                .andExpect(handler().methodName("getMyOrderHistory"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].order.id").value(3))
+                .andExpect(jsonPath("$.items[0].order.userName").value("user1"))
+                .andExpect(jsonPath("$.items[0].orderItems.length()").value(2))
+                .andExpect(jsonPath("$.items[0].orderItems[0].orderId").value(3))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = JsonPath.read(body, "$.nextCursor");
+
+        mvc
+                .perform(
+                        get("/api/v1/orders/my/history")
+                                .param("size", "1")
+                                .param("cursor", nextCursor)
+                                .cookie(new Cookie("apiKey", userApiKey))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].order.id").value(1))
+                .andExpect(jsonPath("$.items[0].orderItems.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
 
+    @Test
+    @DisplayName("내 주문 내역 조회 - 올바르지 않은 커서")
+    void t13() throws Exception {
+        User user = userService.findByUsername("user1").get();
 
+        mvc
+                .perform(
+                        get("/api/v1/orders/my/history")
+                                .param("cursor", "invalid")
+                                .cookie(new Cookie("apiKey", user.getApiKey()))
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("커서가 올바르지 않습니다."));
+    }
 
+    @Test
+    @DisplayName("내 주문 내역 조회 실패(로그인 없이)")
+    void t14() throws Exception {
+        mvc
+                .perform(
+                        get("/api/v1/orders/my/history")
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-1"))
+                .andExpect(jsonPath("$.msg").value("로그인 후 이용해주세요."));
+    }
 }
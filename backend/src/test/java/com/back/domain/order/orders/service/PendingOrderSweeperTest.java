@@ -0,0 +1,86 @@
+package com.back.domain.order.orders.service;
+
+import com.back.domain.order.orders.entity.PaymentStatus;
+import com.back.domain.product.product.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class PendingOrderSweeperTest {
+    @Autowired
+    private PendingOrderSweeper pendingOrderSweeper;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("만료된 대기 주문은 취소되고 재고가 돌아온다")
+    void t1() {
+        int product1Stock = productService.findById(1).get().getStock();
+        int product2Stock = productService.findById(2).get().getStock();
+        int product3Stock = productService.findById(3).get().getStock();
+        entityManager.flush();
+        entityManager.clear();
+
+        int canceledCount = pendingOrderSweeper.expire(LocalDateTime.now().plusMinutes(1));
+
+        entityManager.clear();
+
+        assertThat(canceledCount).isGreaterThanOrEqualTo(2);
+        assertThat(orderService.findById(1).get().getPaymentStatus()).isEqualTo(PaymentStatus.CANCELED);
+        assertThat(orderService.findById(2).get().getPaymentStatus()).isEqualTo(PaymentStatus.CANCELED);
+        assertThat(orderService.findById(3).get().getPaymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+        // 시드 주문 1: 상품1 2개, 상품2 1개 / 주문 2: 상품1 1개, 상품3 1개
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(product1Stock + 3);
+        assertThat(productService.findById(2).get().getStock()).isEqualTo(product2Stock + 1);
+        assertThat(productService.findById(3).get().getStock()).isEqualTo(product3Stock + 1);
+        assertThat(meterRegistry.get("order.pending.expiry.batch").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("이미 취소된 주문은 다시 처리하지 않는다")
+    void t2() {
+        pendingOrderSweeper.expire(LocalDateTime.now().plusMinutes(1));
+
+        assertThat(pendingOrderSweeper.expire(LocalDateTime.now().plusMinutes(1))).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각 전의 대기 주문은 그대로 둔다")
+    void t3() {
+        assertThat(pendingOrderSweeper.expire(LocalDateTime.now().minusDays(1))).isZero();
+        assertThat(orderService.findById(1).get().getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("취소된 주문을 삭제해도 재고를 다시 돌려놓지 않는다")
+    void t4() {
+        pendingOrderSweeper.expire(LocalDateTime.now().plusMinutes(1));
+        entityManager.clear();
+
+        int product1Stock = productService.findById(1).get().getStock();
+
+        orderService.delete(orderService.findById(1).get());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(product1Stock);
+    }
+}
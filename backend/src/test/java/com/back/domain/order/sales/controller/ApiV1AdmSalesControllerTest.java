@@ -0,0 +1,185 @@
+package com.back.domain.order.sales.controller;
+
+import com.back.domain.order.orderItem.entity.OrderItem;
+import com.back.domain.order.orderItem.service.OrderItemService;
+import com.back.domain.order.orders.dto.OrderCheckoutLineDto;
+import com.back.domain.order.orders.service.OrderService;
+import com.back.domain.order.orders.service.PendingOrderSweeper;
+import com.back.domain.order.sales.dto.SalesPeriodDto;
+import com.back.domain.order.sales.dto.SalesPeriodUnit;
+import com.back.domain.order.sales.service.SalesRollupService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ApiV1AdmSalesControllerTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderItemService orderItemService;
+
+    @Autowired
+    private PendingOrderSweeper pendingOrderSweeper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SalesPeriodDto today() {
+        LocalDate today = LocalDate.now();
+
+        return salesRollupService.findRevenue(SalesPeriodUnit.DAY, today, today).getFirst();
+    }
+
+    @Test
+    @DisplayName("일별 매출 조회 - 주문하면 그날 매출에 바로 반영된다")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t1() throws Exception {
+        SalesPeriodDto before = today();
+        String today = LocalDate.now().toString();
+
+        orderService.checkout(1, List.of(new OrderCheckoutLineDto(1, 2)), "card", "서울시 강남구");
+
+        mvc.perform(
+                        get("/api/v1/adm/sales/revenue")
+                                .param("unit", "DAY")
+                                .param("startDate", today)
+                                .param("endDate", today)
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(ApiV1AdmSalesController.class))
+                .andExpect(handler().methodName("getRevenue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].startDate").value(today))
+                .andExpect(jsonPath("$[0].quantity").value(before.quantity() + 2))
+                .andExpect(jsonPath("$[0].revenue").value(before.revenue() + 10000));
+    }
+
+    @Test
+    @DisplayName("월별 매출 조회 - 매출이 없는 달도 0 으로 채운다")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t1_1() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        mvc.perform(
+                        get("/api/v1/adm/sales/revenue")
+                                .param("unit", "MONTH")
+                                .param("startDate", today.minusMonths(2).toString())
+                                .param("endDate", today.toString())
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].startDate").value(today.minusMonths(2).withDayOfMonth(1).toString()))
+                .andExpect(jsonPath("$[2].startDate").value(today.withDayOfMonth(1).toString()))
+                .andExpect(jsonPath("$[2].revenue").value(today().revenue()));
+    }
+
+    @Test
+    @DisplayName("매출 조회 - 시작일이 종료일보다 늦으면 400")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t1_2() throws Exception {
+        mvc.perform(
+                        get("/api/v1/adm/sales/revenue")
+                                .param("startDate", "2025-01-02")
+                                .param("endDate", "2025-01-01")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-2"));
+    }
+
+    @Test
+    @DisplayName("베스트셀러 조회 - 판매 수량 순")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t2() throws Exception {
+        String today = LocalDate.now().toString();
+
+        orderService.checkout(2, List.of(new OrderCheckoutLineDto(4, 50)), "card", "서울시 서초구");
+
+        mvc.perform(
+                        get("/api/v1/adm/sales/best-sellers")
+                                .param("startDate", today)
+                                .param("endDate", today)
+                                .param("limit", "2")
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getBestSellers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].productId").value(4))
+                .andExpect(jsonPath("$[0].productName").value("Ethiopia Sidamo"));
+    }
+
+    @Test
+    @DisplayName("주문 아이템을 지우면 매출에서 빠진다")
+    void t3() {
+        SalesPeriodDto before = today();
+        OrderItem orderItem = orderItemService.findByOrderId(1).getFirst();
+
+        orderItemService.delete(orderItem);
+
+        SalesPeriodDto after = today();
+
+        assertThat(after.quantity()).isEqualTo(before.quantity() - orderItem.getQuantity());
+        assertThat(after.revenue()).isEqualTo(before.revenue() - orderItem.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("만료되어 취소된 주문은 매출에서 빠지고, 다시 만든 집계와 같다")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void t4() throws Exception {
+        SalesPeriodDto before = today();
+
+        pendingOrderSweeper.expire(LocalDateTime.now().plusMinutes(1));
+        entityManager.clear();
+
+        SalesPeriodDto afterExpire = today();
+
+        // 시드 주문 1, 2 (16000 + 11000)
+        assertThat(afterExpire.revenue()).isLessThanOrEqualTo(before.revenue() - 27000);
+
+        String today = LocalDate.now().toString();
+
+        mvc.perform(
+                        post("/api/v1/adm/sales/rebuild")
+                                .param("startDate", today)
+                                .param("endDate", today)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data").value(1));
+
+        assertThat(today()).isEqualTo(afterExpire);
+    }
+}
@@ -270,4 +270,97 @@ public class ApiV1AdmProductControllerTest {
         assertThat(product.getDescription()).isEqualTo("상품 new");
         assertThat(product.getStock()).isEqualTo(100);
     }
+
+    @Test
+    @DisplayName("상품 대량 등록 - CSV, 잘못된 줄은 건너뛰고 결과에 담는다")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void t4() throws Exception {
+        long count = productService.count();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/adm/products/import")
+                                .contentType("text/csv")
+                                .content("""
+                                        name,price,description,stock,imageUrl
+                                        Kenya AA,7000,"산미가 좋은, 케냐 원두입니다.",50,https://example.com/kenya.jpg
+                                        Guatemala Antigua,6500,"안티구아 ""과테말라"" 원두입니다.",40,https://example.com/guatemala.jpg
+                                        X,100,설명 test,10,https://example.com/x.jpg
+                                        Panama Geisha,abc,파나마 원두입니다.,10,https://example.com/panama.jpg
+                                        """)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1AdmProductController.class))
+                .andExpect(handler().methodName("importItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.msg").value("4건 중 2건의 상품이 등록되었습니다."))
+                .andExpect(jsonPath("$.data.importedCount").value(2))
+                .andExpect(jsonPath("$.data.failedCount").value(2))
+                .andExpect(jsonPath("$.data.errors[0].lineNumber").value(4))
+                .andExpect(jsonPath("$.data.errors[0].msg").value(Matchers.startsWith("name-Size-")))
+                .andExpect(jsonPath("$.data.errors[1].lineNumber").value(5))
+                .andExpect(jsonPath("$.data.errors[1].msg").value("형식이 올바르지 않습니다."));
+
+        assertThat(productService.count()).isEqualTo(count + 2);
+
+        Product product = productService.findLatest().get();
+
+        assertThat(product.getName()).isEqualTo("Guatemala Antigua");
+        assertThat(product.getDescription()).isEqualTo("안티구아 \"과테말라\" 원두입니다.");
+        assertThat(product.getProductImages()).hasSize(1);
+        assertThat(product.getProductImages().getFirst().getUrl()).isEqualTo("https://example.com/guatemala.jpg");
+    }
+
+    @Test
+    @DisplayName("상품 대량 등록 - NDJSON")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void t4_1() throws Exception {
+        long count = productService.count();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/adm/products/import")
+                                .contentType("application/x-ndjson")
+                                .content("""
+                                        {"name": "Kenya AA", "price": 7000, "description": "케냐 원두입니다.", "stock": 50, "imageUrl": "https://example.com/kenya.jpg"}
+                                        {"name": "Guatemala Antigua", "price": 6500, "description": "과테말라 원두입니다.", "stock": 0, "imageUrl": "https://example.com/guatemala.jpg"}
+                                        {"name": "Panama Geisha",
+                                        """)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1AdmProductController.class))
+                .andExpect(handler().methodName("importItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.msg").value("3건 중 1건의 상품이 등록되었습니다."))
+                .andExpect(jsonPath("$.data.errors[0].lineNumber").value(2))
+                .andExpect(jsonPath("$.data.errors[0].msg").value(Matchers.startsWith("stock-Min-")))
+                .andExpect(jsonPath("$.data.errors[1].lineNumber").value(3));
+
+        assertThat(productService.count()).isEqualTo(count + 1);
+    }
+
+    @Test
+    @DisplayName("상품 대량 등록 - CSV 헤더에 필수 컬럼이 없을 때")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void t4_2() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/adm/products/import")
+                                .contentType("text/csv")
+                                .content("""
+                                        name,price,description,stock
+                                        Kenya AA,7000,케냐 원두입니다.,50
+                                        """)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1AdmProductController.class))
+                .andExpect(handler().methodName("importItems"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("CSV 헤더에 imageUrl 컬럼이 없습니다."));
+    }
 }
@@ -2,6 +2,11 @@ package com.back.domain.product.product.controller;
 
 import com.back.domain.product.product.entity.Product;
 import com.back.domain.product.product.service.ProductService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +19,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,6 +36,10 @@ public class ApiV1ProductControllerTest {
     private MockMvc mvc;
     @Autowired
     private ProductService productService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("상품 다건 조회")
@@ -39,25 +50,141 @@ public class ApiV1ProductControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                 ).andDo(print());
 
-        List<Product> products = productService.findAll();
+        List<Product> products = productService.findAll()
+                .stream()
+                .sorted(Comparator.comparing(Product::getCreateDate).thenComparing(Product::getId).reversed())
+                .toList();
 
         resultActions
                 .andExpect(handler().handlerType(ApiV1ProductController.class))
                 .andExpect(handler().methodName("getItems"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(products.size()));
+                .andExpect(jsonPath("$.items.length()").value(products.size()))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
 
         for (int i = 0; i < products.size(); i++) {
             Product product = products.get(i);
             resultActions
-                    .andExpect(jsonPath("$[%d].id".formatted(i)).value(product.getId()))
-                    .andExpect(jsonPath("$[%d].createDate".formatted(i)).value(Matchers.startsWith(product.getCreateDate().toString().substring(0, 20))))
-                    .andExpect(jsonPath("$[%d].modifyDate".formatted(i)).value(Matchers.startsWith(product.getModifyDate().toString().substring(0, 20))))
-                    .andExpect(jsonPath("$[%d].name".formatted(i)).value(product.getName()))
-                    .andExpect(jsonPath("$[%d].price".formatted(i)).value(product.getPrice()))
-                    .andExpect(jsonPath("$[%d].description".formatted(i)).value(product.getDescription()))
-                    .andExpect(jsonPath("$[%d].stock".formatted(i)).value(product.getStock()));
+                    .andExpect(jsonPath("$.items[%d].id".formatted(i)).value(product.getId()))
+                    .andExpect(jsonPath("$.items[%d].createDate".formatted(i)).value(Matchers.startsWith(product.getCreateDate().toString().substring(0, 20))))
+                    .andExpect(jsonPath("$.items[%d].modifyDate".formatted(i)).value(Matchers.startsWith(product.getModifyDate().toString().substring(0, 20))))
+                    .andExpect(jsonPath("$.items[%d].name".formatted(i)).value(product.getName()))
+                    .andExpect(jsonPath("$.items[%d].price".formatted(i)).value(product.getPrice()))
+                    .andExpect(jsonPath("$.items[%d].description".formatted(i)).value(product.getDescription()))
+                    .andExpect(jsonPath("$.items[%d].stock".formatted(i)).value(product.getStock()));
+        }
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 - 가격순, 커서로 다음 페이지 조회")
+    public void t1_1() throws Exception {
+        List<Product> products = productService.findAll()
+                .stream()
+                .sorted(Comparator.comparing(Product::getPrice).thenComparing(Product::getId))
+                .toList();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/products")
+                                .param("sort", "PRICE_ASC")
+                                .param("size", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1ProductController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(products.get(0).getId()))
+                .andExpect(jsonPath("$.items[1].id").value(products.get(1).getId()))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        String nextCursor = JsonPath.read(resultActions.andReturn().getResponse().getContentAsString(), "$.nextCursor");
+
+        mvc
+                .perform(
+                        get("/api/v1/products")
+                                .param("sort", "PRICE_ASC")
+                                .param("size", "2")
+                                .param("cursor", nextCursor)
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(products.get(2).getId()))
+                .andExpect(jsonPath("$.items[1].id").value(products.get(3).getId()));
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 - 잘못된 커서")
+    public void t1_2() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/products")
+                                .param("cursor", "wrong-cursor")
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1ProductController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.resultCode").value("400-1"))
+                .andExpect(jsonPath("$.msg").value("커서가 올바르지 않습니다."));
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 - 상품 수와 무관하게 쿼리는 한 번만 실행")
+    public void t1_3() throws Exception {
+        for (int i = 1; i <= 30; i++) {
+            Product product = productService.create("상품 %d".formatted(i), 1000 * i, "상품 %d 설명".formatted(i), 10);
+            productService.createProductImage(product, "http://localhost:8080/images/coffee_default.jpg");
         }
+        productService.flush();
+        entityManager.clear();
+
+        // 검증에 쓰는 count 쿼리가 집계에 들어가지 않도록 먼저 센다.
+        int productCount = productService.count().intValue();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mvc
+                .perform(
+                        get("/api/v1/products")
+                                .param("size", "100")
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(productCount))
+                .andExpect(jsonPath("$.items[0].imageUrl").value("http://localhost:8080/images/coffee_default.jpg"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 - If-None-Match 가 ETag 와 같으면 304")
+    public void t1_4() throws Exception {
+        String eTag = mvc
+                .perform(get("/api/v1/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/products")
+                                .header("If-None-Match", eTag)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1ProductController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -104,4 +231,62 @@ public class ApiV1ProductControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("404-1"))
                 .andExpect(jsonPath("$.msg").value("해당 데이터가 존재하지 않습니다."));
     }
+
+    @Test
+    @DisplayName("상품 검색 - 라틴 문자, 발음 구별 기호 무시")
+    public void t3() throws Exception {
+        Product product = productService.findAll()
+                .stream()
+                .filter(it -> it.getName().equals("Colombia Nariñó"))
+                .findFirst()
+                .get();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/products/search")
+                                .param("q", "narino colombia")
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1ProductController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(product.getId()))
+                .andExpect(jsonPath("$[0].name").value(product.getName()))
+                .andExpect(jsonPath("$[1].name").value(Matchers.startsWith("Colombia")));
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 한글")
+    public void t3_1() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/products/search")
+                                .param("q", "에티오피아 원두")
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1ProductController.class))
+                .andExpect(handler().methodName("search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(productService.count().intValue()))
+                .andExpect(jsonPath("$[0].description").value(Matchers.containsString("에티오피아")))
+                .andExpect(jsonPath("$[1].description").value(Matchers.containsString("에티오피아")));
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 일치하는 상품 없음")
+    public void t3_2() throws Exception {
+        mvc
+                .perform(
+                        get("/api/v1/products/search")
+                                .param("q", "kenya")
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
 }
@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -113,4 +114,34 @@ public class ApiV1AdmProductImageControllerTest {
         ProductImage productImage = product.findProductImageById(id).get();
         assertThat(productImage.getUrl()).isEqualTo("new url");
     }
+
+    @Test
+    @DisplayName("상품 이미지 파일 업로드 - 내용 해시가 파일명이 된다")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    public void t4() throws Exception {
+        int productId = 1;
+        byte[] content = "test image".getBytes();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        multipart("/api/v1/adm/products/%d/images/upload".formatted(productId))
+                                .file(new MockMultipartFile("file", "test.PNG", MediaType.IMAGE_PNG_VALUE, content))
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1AdmProductImageController.class))
+                .andExpect(handler().methodName("upload"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.resultCode").value("201-1"))
+                .andExpect(jsonPath("$.data.productId").value(productId))
+                .andExpect(jsonPath("$.data.url").value(Matchers.matchesPattern("^http://localhost:8080/images/[0-9a-f]{64}\\.png$")));
+
+        mvc
+                .perform(
+                        multipart("/api/v1/adm/products/%d/images/upload".formatted(productId))
+                                .file(new MockMultipartFile("file", "test.exe", MediaType.APPLICATION_OCTET_STREAM_VALUE, content))
+                ).andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.msg").value("지원하지 않는 이미지 형식입니다."));
+    }
 }
@@ -84,4 +84,29 @@ public class ApiV1ProductImageControllerTest {
                 .andExpect(jsonPath("$.url").value(productImage.getUrl()))
                 .andExpect(jsonPath("$.productId").value(productImage.getProduct().getId()));
     }
+
+    @Test
+    @DisplayName("상품 이미지 다건조회 - If-None-Match 가 ETag 와 같으면 304")
+    public void t3() throws Exception {
+        int id = 1;
+
+        String eTag = mvc
+                .perform(get("/api/v1/products/%d/images".formatted(id)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/products/%d/images".formatted(id))
+                                .header("If-None-Match", eTag)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1ProductImageController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
 }
@@ -0,0 +1,150 @@
+package com.back.domain.product.productImage.controller;
+
+import com.back.domain.product.product.service.ProductService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ProductImageFileControllerTest {
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ProductService productService;
+
+    // 샘플 데이터의 1번 상품 이미지는 coffee_1.png 를 저장한 것
+    private String getSampleImagePath() {
+        String url = productService.findById(1).get().getProductImages().getFirst().getUrl();
+
+        return URI.create(url).getPath();
+    }
+
+    private byte[] getSampleImageContent() throws Exception {
+        return new ClassPathResource("static/images/coffee_1.png").getContentAsByteArray();
+    }
+
+    @Test
+    @DisplayName("이미지 파일 조회")
+    public void t1() throws Exception {
+        String path = getSampleImagePath();
+        byte[] content = getSampleImageContent();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get(path)
+                );
+
+        resultActions
+                .andExpect(handler().handlerType(ProductImageFileController.class))
+                .andExpect(handler().methodName("serve"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"%s\"".formatted(path.substring(path.lastIndexOf('/') + 1, path.lastIndexOf('.')))))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("이미지 파일 조회 - ETag 가 같으면 304")
+    public void t2() throws Exception {
+        String path = getSampleImagePath();
+        String eTag = mvc.perform(get(path)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get(path)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                ).andDo(print());
+
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("이미지 파일 조회 - Range 요청")
+    public void t3() throws Exception {
+        String path = getSampleImagePath();
+        byte[] content = getSampleImageContent();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get(path)
+                                .header(HttpHeaders.RANGE, "bytes=10-19")
+                ).andDo(print());
+
+        resultActions
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/%d".formatted(content.length)))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 10, 20)));
+    }
+
+    @Test
+    @DisplayName("이미지 파일 조회 - 끝에서부터의 Range 요청")
+    public void t3_1() throws Exception {
+        String path = getSampleImagePath();
+        byte[] content = getSampleImageContent();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get(path)
+                                .header(HttpHeaders.RANGE, "bytes=-5")
+                ).andDo(print());
+
+        resultActions
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(content.length - 5, content.length - 1, content.length)))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, content.length - 5, content.length)));
+    }
+
+    @Test
+    @DisplayName("이미지 파일 조회 - 범위를 벗어난 Range 요청은 416")
+    public void t3_2() throws Exception {
+        String path = getSampleImagePath();
+        byte[] content = getSampleImageContent();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get(path)
+                                .header(HttpHeaders.RANGE, "bytes=%d-".formatted(content.length))
+                ).andDo(print());
+
+        resultActions
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(content.length)));
+    }
+
+    @Test
+    @DisplayName("이미지 파일 조회 - 없는 파일")
+    public void t4() throws Exception {
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/images/%s.png".formatted("0".repeat(64)))
+                ).andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ProductImageFileController.class))
+                .andExpect(status().isNotFound());
+    }
+}
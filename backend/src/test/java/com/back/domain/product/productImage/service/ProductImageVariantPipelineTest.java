@@ -0,0 +1,105 @@
+package com.back.domain.product.productImage.service;
+
+import com.back.global.exception.ServiceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class ProductImageVariantPipelineTest {
+    @Autowired
+    private ProductImageVariantPipeline productImageVariantPipeline;
+    @Autowired
+    private ProductImageStorage productImageStorage;
+    @Value("${custom.productImage.variant.maxPending}")
+    private int maxPending;
+
+    private BufferedImage read(String url) throws Exception {
+        return ImageIO.read(productImageStorage.findByUrl(url).get().path().toFile());
+    }
+
+    @Test
+    @DisplayName("크기별 이미지 생성 - 비율을 유지하며 줄이고, 투명도가 없으면 JPEG")
+    public void t1() throws Exception {
+        BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        ProductImageVariantPipeline.Variants variants = productImageVariantPipeline.createVariants(source).get();
+
+        assertThat(variants.thumbnailUrl()).endsWith(".jpg");
+        assertThat(read(variants.thumbnailUrl()).getWidth()).isEqualTo(ProductImageVariantPipeline.THUMBNAIL_WIDTH);
+        assertThat(read(variants.thumbnailUrl()).getHeight()).isEqualTo(ProductImageVariantPipeline.THUMBNAIL_WIDTH / 2);
+        assertThat(read(variants.listUrl()).getWidth()).isEqualTo(ProductImageVariantPipeline.LIST_WIDTH);
+        assertThat(read(variants.detailUrl()).getWidth()).isEqualTo(ProductImageVariantPipeline.DETAIL_WIDTH);
+        assertThat(read(variants.detailUrl()).getHeight()).isEqualTo(ProductImageVariantPipeline.DETAIL_WIDTH / 2);
+    }
+
+    @Test
+    @DisplayName("크기별 이미지 생성 - 원본보다 크게 늘리지 않고, 투명도가 있으면 PNG")
+    public void t2() throws Exception {
+        BufferedImage source = new BufferedImage(300, 300, BufferedImage.TYPE_INT_ARGB);
+
+        ProductImageVariantPipeline.Variants variants = productImageVariantPipeline.createVariants(source).get();
+
+        assertThat(variants.detailUrl()).endsWith(".png");
+        assertThat(variants.detailUrl()).isEqualTo(variants.listUrl());
+        assertThat(read(variants.detailUrl()).getWidth()).isEqualTo(300);
+        assertThat(read(variants.thumbnailUrl()).getWidth()).isEqualTo(ProductImageVariantPipeline.THUMBNAIL_WIDTH);
+    }
+
+    @Test
+    @DisplayName("크기별 이미지 생성 - 디코딩할 수 없는 이미지")
+    public void t3() throws Exception {
+        assertThat(productImageVariantPipeline.createVariants(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본 읽기 - 픽셀 수가 maxPixels 를 넘으면 디코딩하지 않는다")
+    public void t4() throws Exception {
+        Path small = Files.createTempFile("variant-small", ".png");
+        Path large = Files.createTempFile("variant-large", ".png");
+
+        try {
+            ImageIO.write(new BufferedImage(300, 300, BufferedImage.TYPE_INT_RGB), "png", small.toFile());
+            ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "png", large.toFile());
+
+            assertThat(productImageVariantPipeline.read(small)).isPresent();
+            assertThat(productImageVariantPipeline.read(large)).isEmpty();
+        } finally {
+            Files.deleteIfExists(small);
+            Files.deleteIfExists(large);
+        }
+    }
+
+    @Test
+    @DisplayName("대기 자리 - 다 차면 503 으로 거절하고, 돌려주면 다시 받을 수 있다")
+    public void t5() {
+        int reservedCount = 0;
+        ServiceException rejected = null;
+
+        try {
+            for (; reservedCount <= maxPending; reservedCount++) productImageVariantPipeline.reserveSlot();
+        } catch (ServiceException e) {
+            rejected = e;
+        } finally {
+            for (int i = 0; i < reservedCount; i++) productImageVariantPipeline.releaseSlot();
+        }
+
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.getRsData().resultCode()).isEqualTo("503-1");
+        assertThat(reservedCount).isLessThanOrEqualTo(maxPending);
+
+        productImageVariantPipeline.reserveSlot();
+        productImageVariantPipeline.releaseSlot();
+    }
+}
@@ -0,0 +1,123 @@
+package com.back.domain.user.refreshToken.service;
+
+import com.back.domain.user.refreshToken.dto.RefreshTokenDto;
+import com.back.domain.user.refreshToken.repository.RefreshTokenRepository;
+import com.back.standard.util.Ut;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+public class RefreshTokenServiceTest {
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("리프레시 토큰을 쓰면 같은 계열의 새 토큰으로 바뀐다")
+    void t1() {
+        String refreshToken = refreshTokenService.issue(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        assertThat(rotation.status()).isEqualTo(RefreshTokenService.RotationStatus.ROTATED);
+        assertThat(rotation.userId()).isEqualTo(1);
+        assertThat(rotation.refreshToken()).isNotEqualTo(refreshToken);
+
+        RefreshTokenDto oldToken = refreshTokenRepository.findByTokenHash(Ut.digest.sha256(refreshToken)).get();
+        RefreshTokenDto newToken = refreshTokenRepository.findByTokenHash(Ut.digest.sha256(rotation.refreshToken())).get();
+
+        assertThat(oldToken.isRotated()).isTrue();
+        assertThat(newToken.isRotated()).isFalse();
+        assertThat(newToken.familyId()).isEqualTo(oldToken.familyId());
+    }
+
+    @Test
+    @DisplayName("회전 유예 시간이 지난 뒤 이미 쓴 리프레시 토큰을 다시 쓰면 계열 전체가 폐기된다")
+    void t2() {
+        String refreshToken = refreshTokenService.issue(1);
+        String rotatedToken = refreshTokenService.rotate(refreshToken).refreshToken();
+        backdateRotation(refreshToken);
+
+        RefreshTokenService.Rotation reused = refreshTokenService.rotate(refreshToken);
+
+        assertThat(reused.status()).isEqualTo(RefreshTokenService.RotationStatus.REUSED);
+        assertThat(reused.userId()).isEqualTo(1);
+        assertThat(refreshTokenService.rotate(rotatedToken).status()).isEqualTo(RefreshTokenService.RotationStatus.INVALID);
+    }
+
+    @Test
+    @DisplayName("회전 유예 시간 안에 이미 쓴 리프레시 토큰이 다시 오면 폐기하지 않고 새 토큰 없이 통과시킨다")
+    void t2_1() {
+        String refreshToken = refreshTokenService.issue(1);
+        String rotatedToken = refreshTokenService.rotate(refreshToken).refreshToken();
+
+        RefreshTokenService.Rotation concurrent = refreshTokenService.rotate(refreshToken);
+
+        assertThat(concurrent.status()).isEqualTo(RefreshTokenService.RotationStatus.CONCURRENT);
+        assertThat(concurrent.userId()).isEqualTo(1);
+        assertThat(concurrent.refreshToken()).isNull();
+        assertThat(refreshTokenService.rotate(rotatedToken).status()).isEqualTo(RefreshTokenService.RotationStatus.ROTATED);
+    }
+
+    @Test
+    @DisplayName("로그인마다 계열이 따로 생기고, 한 기기의 로그아웃은 다른 기기에 영향을 주지 않는다")
+    void t3() {
+        String desktopToken = refreshTokenService.issue(1);
+        String mobileToken = refreshTokenService.issue(1);
+
+        refreshTokenService.revoke(desktopToken);
+
+        assertThat(refreshTokenService.rotate(desktopToken).status()).isEqualTo(RefreshTokenService.RotationStatus.INVALID);
+        assertThat(refreshTokenService.rotate(mobileToken).status()).isEqualTo(RefreshTokenService.RotationStatus.ROTATED);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 리프레시 토큰은 유효하지 않다")
+    void t4() {
+        assertThat(refreshTokenService.rotate("not-a-refresh-token").status()).isEqualTo(RefreshTokenService.RotationStatus.INVALID);
+    }
+
+    @Test
+    @DisplayName("만료된 리프레시 토큰만 정리된다")
+    void t5() {
+        LocalDateTime now = LocalDateTime.now();
+        String expiredTokenHash = Ut.digest.sha256(UUID.randomUUID().toString());
+        refreshTokenRepository.insert(
+                new RefreshTokenDto(expiredTokenHash, UUID.randomUUID().toString(), 1, now.minusDays(1), null),
+                now.minusDays(8)
+        );
+        String liveToken = refreshTokenService.issue(1);
+
+        int deletedCount = refreshTokenService.purgeExpired(now);
+
+        assertThat(deletedCount).isGreaterThanOrEqualTo(1);
+        assertThat(refreshTokenRepository.findByTokenHash(expiredTokenHash)).isEmpty();
+        assertThat(refreshTokenRepository.findByTokenHash(Ut.digest.sha256(liveToken))).isPresent();
+    }
+
+    private void backdateRotation(String refreshToken) {
+        jdbcTemplate.update(
+                "UPDATE refresh_token SET rotated_at = ? WHERE token_hash = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)),
+                Ut.digest.sha256(refreshToken)
+        );
+    }
+}
@@ -1,7 +1,15 @@
 package com.back.domain.user.user.controller;
 
+import com.back.domain.order.orders.dto.OrderCheckoutLineDto;
+import com.back.domain.order.orders.service.OrderService;
+import com.back.domain.product.product.service.ProductService;
 import com.back.domain.user.user.entity.User;
 import com.back.domain.user.user.service.UserService;
+import com.back.domain.wishList.wishList.entity.WishList;
+import com.back.domain.wishList.wishList.repository.WishListRepository;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,11 +19,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -32,8 +45,27 @@ public class ApiV1AdminUserControllerTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private WishListRepository wishListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
     @BeforeEach
     void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
         if (userService.count() == 0) {
             userService.create("admin", "1234", "admin@test.com", "admin",List.of("ROLE_ADMIN"), "서울시 중구", "11111");
             userService.create("user1", "1234", "user1@test.com", "testUser1",List.of("ROLE_USER"), "서울시 강남구", "22222");
@@ -41,6 +73,13 @@ public class ApiV1AdminUserControllerTest {
         }
     }
 
+    // 트랜잭션 없이 실행한 테스트가 실패하면 커밋된 회원과 주문이 남으므로 재고를 돌려놓고 지운다.
+    @AfterEach
+    void tearDown() {
+        userService.findByUsername("purgeUser")
+                .ifPresent(user -> userService.deleteUser(user.getId()));
+    }
+
     @Test
     @DisplayName("관리자 - 사용자 목록 조회")
     @WithMockUser(username = "admin", roles = {"ADMIN"})
@@ -79,4 +118,94 @@ public class ApiV1AdminUserControllerTest {
         mvc.perform(get("/api/v1/adm/users"))
                 .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("관리자 - 사용자 삭제 시 주문, 주문 아이템, 찜 목록을 함께 지우고 처리 중인 주문의 재고를 돌려놓는다")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void deleteUser_shouldDeleteOrdersAndReleaseStock() throws Exception {
+        User user = userService.findByUsername("user1").get();
+        wishListRepository.save(new WishList(user, productService.findById(1).get()));
+
+        int product1Stock = productService.findById(1).get().getStock();
+        int product2Stock = productService.findById(2).get().getStock();
+        int product4Stock = productService.findById(4).get().getStock();
+        entityManager.flush();
+        entityManager.clear();
+
+        mvc.perform(delete("/api/v1/adm/users/" + user.getId()))
+                .andExpect(status().isNoContent());
+
+        // 회원 삭제는 flush 전까지 영속성 컨텍스트에만 있으므로 먼저 반영한다.
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(userService.findById(user.getId())).isEmpty();
+        assertThat(orderService.findByUserId(user.getId())).isEmpty();
+        assertThat(wishListRepository.findByUserIdOrderByCreateDateDesc(user.getId())).isEmpty();
+        // 시드 주문: 처리 중인 주문(상품1 2개, 상품2 1개)만 돌려놓고 완료된 주문(상품2 4개, 상품4 1개)은 그대로
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(product1Stock + 2);
+        assertThat(productService.findById(2).get().getStock()).isEqualTo(product2Stock + 1);
+        assertThat(productService.findById(4).get().getStock()).isEqualTo(product4Stock);
+    }
+
+    @Test
+    @DisplayName("관리자 - 주문이 많은 사용자는 백그라운드 작업으로 나눠서 삭제한다")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void deleteUser_shouldPurgeHeavyAccountInBackground() throws Exception {
+        User user = userService.create("purgeUser", "1234", "purge@test.com", "purgeUser", List.of("ROLE_USER"), "서울시 중구", "44444");
+        int productStock = productService.findById(1).get().getStock();
+
+        // 컨트롤러를 거칠 때처럼 주문마다 한 트랜잭션 안에서 차감과 저장을 함께 커밋한다.
+        for (int i = 0; i < 7; i++) {
+            transactionTemplate.executeWithoutResult(status ->
+                    orderService.checkout(user.getId(), List.of(new OrderCheckoutLineDto(1, 1)), "card", "서울시 중구")
+            );
+        }
+
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(productStock - 7);
+
+        String body = mvc.perform(delete("/api/v1/adm/users/" + user.getId()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.resultCode").value("202-1"))
+                .andExpect(jsonPath("$.data.userId").value(user.getId()))
+                .andExpect(jsonPath("$.data.totalOrderCount").value(7))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String jobId = JsonPath.read(body, "$.data.id");
+        String status = "RUNNING";
+
+        for (int i = 0; i < 100 && status.equals("RUNNING"); i++) {
+            Thread.sleep(100);
+
+            String jobBody = mvc.perform(get("/api/v1/adm/users/purge-jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            status = JsonPath.read(jobBody, "$.status");
+        }
+
+        assertThat(status).isEqualTo("COMPLETED");
+
+        mvc.perform(get("/api/v1/adm/users/purge-jobs/" + jobId))
+                .andExpect(jsonPath("$.deletedOrderCount").value(7))
+                .andExpect(jsonPath("$.endDate").isNotEmpty());
+
+        assertThat(userService.findById(user.getId())).isEmpty();
+        assertThat(orderService.findByUserId(user.getId())).isEmpty();
+        assertThat(productService.findById(1).get().getStock()).isEqualTo(productStock);
+    }
+
+    @Test
+    @DisplayName("관리자 - 없는 삭제 작업 조회 시 404")
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void getPurgeJob_shouldReturn404WhenNotFound() throws Exception {
+        mvc.perform(get("/api/v1/adm/users/purge-jobs/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.resultCode").value("404-1"));
+    }
+}
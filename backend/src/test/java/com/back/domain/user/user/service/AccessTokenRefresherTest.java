@@ -0,0 +1,177 @@
+package com.back.domain.user.user.service;
+
+import com.back.domain.user.refreshToken.service.RefreshTokenService;
+import com.back.domain.user.user.entity.User;
+import com.back.standard.util.Ut;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 다른 스레드에서 리프레시 토큰을 읽어야 하므로 트랜잭션 없이 커밋하고, 끝나면 되돌린다.
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AccessTokenRefresherTest {
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccessTokenRefresher accessTokenRefresher;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenService.revokeAll(userService.findByUsername("user2").get().getId());
+    }
+
+    @Test
+    @DisplayName("같은 리프레시 토큰으로 동시에 갱신하면 한 번만 처리하고 액세스 토큰을 같이 쓰며, 새 리프레시 토큰은 회전한 요청만 받는다")
+    void t1() throws Exception {
+        String refreshToken = login("user2");
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<AccessTokenRefresher.Result>> futures = IntStream.range(0, CONCURRENT_REQUESTS)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return accessTokenRefresher.refresh(refreshToken);
+                    }))
+                    .toList();
+
+            start.countDown();
+
+            String accessToken = futures.get(0).get().accessToken();
+            int rotatedCount = 0;
+
+            for (Future<AccessTokenRefresher.Result> future : futures) {
+                AccessTokenRefresher.Result result = future.get();
+
+                assertThat(result.status()).isEqualTo(AccessTokenRefresher.Status.REFRESHED);
+                assertThat(result.accessToken()).isEqualTo(accessToken);
+                if (result.refreshToken() != null) rotatedCount++;
+            }
+
+            assertThat(rotatedCount).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 없이 리프레시 토큰 쿠키만으로 요청하면 새 액세스 토큰을 발급하고 인증한다")
+    void t2() throws Exception {
+        String refreshToken = login("user2");
+
+        mvc.perform(
+                        get("/api/v1/users/me")
+                                .cookie(new Cookie("refreshToken", refreshToken))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.username").value("user2"))
+                .andExpect(cookie().exists("accessToken"))
+                .andExpect(cookie().exists("refreshToken"));
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 재사용 중인 갱신 결과도 지워진다")
+    void t3() {
+        String refreshToken = login("user2");
+        assertThat(accessTokenRefresher.refresh(refreshToken).status()).isEqualTo(AccessTokenRefresher.Status.REFRESHED);
+
+        userService.revokeRefreshToken(refreshToken);
+
+        assertThat(accessTokenRefresher.refresh(refreshToken).status()).isEqualTo(AccessTokenRefresher.Status.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("회전 유예 시간이 지난 뒤 이미 쓴 리프레시 토큰이 다시 오면 계열을 폐기한다")
+    void t4() {
+        String refreshToken = login("user2");
+        AccessTokenRefresher.Result refreshed = accessTokenRefresher.refresh(refreshToken);
+        assertThat(refreshed.status()).isEqualTo(AccessTokenRefresher.Status.REFRESHED);
+
+        accessTokenRefresher.invalidate(refreshToken);
+        backdateRotation(refreshToken);
+
+        assertThat(accessTokenRefresher.refresh(refreshToken).status()).isEqualTo(AccessTokenRefresher.Status.TOKEN_MISMATCH);
+        assertThat(accessTokenRefresher.refresh(refreshed.refreshToken()).status()).isEqualTo(AccessTokenRefresher.Status.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("재사용 시간 안에 회전된 토큰이 다시 와도 새 리프레시 토큰은 주지 않는다")
+    void t5() {
+        String refreshToken = login("user2");
+        AccessTokenRefresher.Result rotated = accessTokenRefresher.refresh(refreshToken);
+        assertThat(rotated.refreshToken()).isNotNull();
+
+        AccessTokenRefresher.Result reused = accessTokenRefresher.refresh(refreshToken);
+
+        assertThat(reused.status()).isEqualTo(AccessTokenRefresher.Status.REFRESHED);
+        assertThat(reused.accessToken()).isEqualTo(rotated.accessToken());
+        assertThat(reused.refreshToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 회전 유예 시간 안에 같은 토큰으로 갱신하면 계열을 폐기하지 않고 액세스 토큰만 발급한다")
+    void t6() {
+        String refreshToken = login("user2");
+        AccessTokenRefresher.Result rotated = accessTokenRefresher.refresh(refreshToken);
+        assertThat(rotated.refreshToken()).isNotNull();
+
+        // 이 노드의 갱신 결과가 없는 다른 노드
+        accessTokenRefresher.invalidate(refreshToken);
+
+        AccessTokenRefresher.Result concurrent = accessTokenRefresher.refresh(refreshToken);
+
+        assertThat(concurrent.status()).isEqualTo(AccessTokenRefresher.Status.REFRESHED);
+        assertThat(concurrent.accessToken()).isNotNull();
+        assertThat(concurrent.refreshToken()).isNull();
+        assertThat(accessTokenRefresher.refresh(rotated.refreshToken()).status()).isEqualTo(AccessTokenRefresher.Status.REFRESHED);
+    }
+
+    private void backdateRotation(String refreshToken) {
+        jdbcTemplate.update(
+                "UPDATE refresh_token SET rotated_at = ? WHERE token_hash = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)),
+                Ut.digest.sha256(refreshToken)
+        );
+    }
+
+    private String login(String username) {
+        User user = userService.findByUsername(username).get();
+
+        return userService.issueRefreshToken(user);
+    }
+}
@@ -0,0 +1,97 @@
+package com.back.domain.user.user.service;
+
+import com.back.domain.user.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ApiKeyAuthCacheTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ApiKeyAuthCache apiKeyAuthCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("API 키 쿠키로 인증 - 두 번째 요청부터는 인증에 DB 를 쓰지 않는다")
+    void t1() throws Exception {
+        User user = userService.findByUsername("user1").get();
+        apiKeyAuthCache.invalidate(user.getApiKey());
+
+        mvc.perform(
+                        get("/api/v1/users/me")
+                                .cookie(new Cookie("apiKey", user.getApiKey()))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(user.getId()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(userService.findPrincipalByApiKey(user.getApiKey()))
+                .hasValueSatisfying(principal -> assertThat(principal.getUsername()).isEqualTo("user1"));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("role 이 바뀌면 캐시가 지워져서 새 role 로 인증된다")
+    void t2() {
+        User user = userService.findByUsername("user2").get();
+        assertThat(userService.findPrincipalByApiKey(user.getApiKey()).get().getRole()).isEqualTo("ROLE_USER");
+
+        user.setRole("ROLE_ADMIN");
+        entityManager.flush();
+
+        assertThat(userService.findPrincipalByApiKey(user.getApiKey()).get().getRole()).isEqualTo("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("회원을 삭제하면 그 API 키로 더 이상 인증되지 않는다")
+    void t3() {
+        User user = userService.findByUsername("user4").get();
+        String apiKey = user.getApiKey();
+        assertThat(userService.findPrincipalByApiKey(apiKey)).isPresent();
+
+        userService.deleteUser(user.getId());
+        entityManager.flush();
+
+        assertThat(userService.findPrincipalByApiKey(apiKey)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 API 키는 캐시하지 않는다")
+    void t4() {
+        assertThat(userService.findPrincipalByApiKey("not-exists-api-key")).isEmpty();
+        assertThat(userService.findPrincipalByApiKey("not-exists-api-key")).isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.global.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class JdbcExporterTest {
+    @Autowired
+    private JdbcExporter jdbcExporter;
+
+    @Test
+    @DisplayName("CSV - 수식으로 시작하는 문자열 셀은 ' 를 붙이고 숫자는 그대로 둔다")
+    void t1() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jdbcExporter.export(
+                "SELECT '=HYPERLINK(\"http://example.com\")', '+1', '-1', '@SUM(A1,B1)', 'plain', -5",
+                List.of("a", "b", "c", "d", "e", "f"),
+                ExportFormat.CSV
+        ).writeTo(outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "\uFEFFa,b,c,d,e,f\r\n"
+                        + "\"'=HYPERLINK(\"\"http://example.com\"\")\",'+1,'-1,\"'@SUM(A1,B1)\",plain,-5\r\n"
+        );
+    }
+}
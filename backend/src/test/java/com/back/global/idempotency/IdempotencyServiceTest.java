@@ -0,0 +1,90 @@
+package com.back.global.idempotency;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.rsData.RsData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class IdempotencyServiceTest {
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 먼저 들어온 실행 하나로 합쳐진다")
+    void t1() throws Exception {
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executionCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<IdempotencyService.Result>> futures = IntStream.range(0, 16)
+                    .mapToObj(i -> executor.submit(() -> {
+                        startLatch.await();
+
+                        return idempotencyService.execute(key, "fingerprint", () -> {
+                            executionCount.incrementAndGet();
+                            sleep(200);
+
+                            return new RsData<>("201-1", "생성되었습니다.", Map.of("id", 1));
+                        });
+                    }))
+                    .toList();
+
+            startLatch.countDown();
+
+            int replayedCount = 0;
+
+            for (Future<IdempotencyService.Result> future : futures) {
+                IdempotencyService.Result result = future.get();
+
+                assertThat(result.rsData().resultCode()).isEqualTo("201-1");
+                if (result.replayed()) replayedCount++;
+            }
+
+            assertThat(executionCount.get()).isEqualTo(1);
+            assertThat(replayedCount).isEqualTo(15);
+        }
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 저장하지 않고, 같은 키로 다시 실행할 수 있다")
+    void t2() {
+        String key = UUID.randomUUID().toString();
+
+        assertThatThrownBy(() -> idempotencyService.execute(key, "fingerprint", () -> {
+            throw new ServiceException("409-1", "재고가 부족합니다.");
+        }))
+                .isInstanceOf(ServiceException.class);
+
+        IdempotencyService.Result result = idempotencyService.execute(key, "fingerprint", () -> new RsData<>("201-1", "생성되었습니다."));
+
+        assertThat(result.replayed()).isFalse();
+        assertThat(result.rsData().resultCode()).isEqualTo("201-1");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.back.global.jpa;
+
+import com.back.domain.order.orderItem.entity.OrderItem;
+import com.back.domain.order.orders.entity.Orders;
+import com.back.domain.order.orders.entity.PaymentStatus;
+import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark 로만 실행된다. 하위 클래스마다 id 생성 전략과 DB 가 다르다.
+@Tag("benchmark")
+public abstract class IdGenerationBenchmark {
+    private static final int ORDER_COUNT = 2000;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int FLUSH_INTERVAL = 500;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("주문/주문 아이템 대량 INSERT")
+    void t1() {
+        User user = userService.findByUsername("user1").get();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 워밍업
+        insertOrders(user, ORDER_COUNT / 10);
+
+        statistics.clear();
+        long startedAt = System.nanoTime();
+
+        insertOrders(user, ORDER_COUNT);
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        long rowCount = ORDER_COUNT * (1L + ITEMS_PER_ORDER);
+
+        System.out.printf(
+                "[%s] %d rows, %d ms, %d prepared statements%n",
+                getClass().getSimpleName(),
+                rowCount,
+                elapsedMillis,
+                statistics.getPrepareStatementCount()
+        );
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rowCount);
+    }
+
+    private void insertOrders(User user, int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                Orders order = new Orders(ITEMS_PER_ORDER, ITEMS_PER_ORDER * 5000, "card", PaymentStatus.PENDING, user, "서울시 강남구");
+
+                for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                    OrderItem orderItem = new OrderItem(1, 5000, 5000, 1);
+                    orderItem.setOrder(order);
+                    order.getOrderItems().add(orderItem);
+                }
+
+                entityManager.persist(order);
+
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.global.jpa;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:db_benchmark_identity;MODE=MySQL")
+public class IdentityIdGenerationBenchmarkTest extends IdGenerationBenchmark {
+}
@@ -0,0 +1,101 @@
+package com.back.global.jwt;
+
+import com.back.domain.user.user.entity.User;
+import com.back.domain.user.user.service.UserAuthTokenService;
+import com.back.domain.user.user.service.UserService;
+import com.back.standard.util.Ut;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class JwtCodecTest {
+    private static final String OLD_SECRET = "old-secret-old-secret-old-secret-old-secret-old-secret-old-secret";
+    private static final String NEW_SECRET = "new-secret-new-secret-new-secret-new-secret-new-secret-new-secret";
+    private static final Map<String, Object> BODY = Map.of("id", 1, "username", "user1");
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtCodec jwtCodec;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAuthTokenService userAuthTokenService;
+
+    @Value("${custom.jwt.secretKey}")
+    private String secretKey;
+
+    @Test
+    @DisplayName("발급한 액세스 토큰으로 인증된다 - 두 번째 요청부터는 검증 캐시를 쓴다")
+    void t1() throws Exception {
+        User user = userService.findByUsername("user1").get();
+        String accessToken = userAuthTokenService.genAccessToken(user);
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(
+                            get("/api/v1/orders/my/history")
+                                    .header("Authorization", "Bearer " + accessToken)
+                    )
+                    .andDo(print())
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(jwtCodec.decode(accessToken)).containsEntry("id", user.getId());
+    }
+
+    @Test
+    @DisplayName("kid 헤더가 없는 기존 토큰도 현재 키로 검증된다")
+    void t2() {
+        String legacyToken = Ut.jwt.toString(secretKey, 60, BODY);
+
+        assertThat(jwtCodec.decode(legacyToken)).containsEntry("username", "user1");
+    }
+
+    @Test
+    @DisplayName("키를 교체해도 이전 키로 서명된 토큰은 previousKeys 로 검증된다")
+    void t3() {
+        JwtCodec oldCodec = new JwtCodec("1", OLD_SECRET, Map.of(), 100, new SimpleMeterRegistry());
+        JwtCodec rotatedCodec = new JwtCodec("2", NEW_SECRET, Map.of("1", OLD_SECRET), 100, new SimpleMeterRegistry());
+        JwtCodec withoutOldKeyCodec = new JwtCodec("2", NEW_SECRET, Map.of(), 100, new SimpleMeterRegistry());
+
+        String oldToken = oldCodec.encode(60, BODY);
+
+        assertThat(rotatedCodec.decode(oldToken)).containsEntry("id", 1);
+        assertThat(withoutOldKeyCodec.decode(oldToken)).isNull();
+        assertThat(oldCodec.decode(rotatedCodec.encode(60, BODY))).isNull();
+    }
+
+    @Test
+    @DisplayName("만료되었거나 변조된 토큰은 null")
+    void t4() {
+        String token = jwtCodec.encode(60, BODY);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + Ut.jwt.toString(secretKey, 60, Map.of("id", 5)).split("\\.")[1] + "." + parts[2];
+
+        assertThat(jwtCodec.decode(tampered)).isNull();
+        assertThat(jwtCodec.decode(jwtCodec.encode(-1, BODY))).isNull();
+        assertThat(jwtCodec.decode("not-a-jwt")).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+package com.back.global.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class OutboxDispatcherTest {
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+    @Autowired
+    private OutboxTestEventHandler outboxTestEventHandler;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("커밋된 이벤트는 핸들러에 한 번씩 전달되고 outbox 에서 지워진다")
+    void t1() {
+        List<String> keys = List.of(key(), key(), key());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outboxEventPublisher.publishAll(keys.stream().map(key -> new OutboxTestEvent(key, false)).toList())
+        );
+
+        outboxDispatcher.poll();
+        outboxDispatcher.poll();
+
+        keys.forEach(key -> assertThat(outboxTestEventHandler.receivedCount(key)).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 다시 전달한다")
+    void t2() {
+        String key = key();
+        double failedCount = meterRegistry.get("outbox.failed").counter().count();
+
+        outboxEventPublisher.publish(new OutboxTestEvent(key, true));
+
+        outboxDispatcher.poll();
+        assertThat(outboxTestEventHandler.receivedCount(key)).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.failed").counter().count()).isEqualTo(failedCount + 1);
+
+        outboxDispatcher.poll();
+        assertThat(outboxTestEventHandler.receivedCount(key)).isEqualTo(2);
+
+        outboxDispatcher.poll();
+        assertThat(outboxTestEventHandler.receivedCount(key)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 전달되지 않는다")
+    void t3() {
+        String key = key();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxEventPublisher.publish(new OutboxTestEvent(key, false));
+            status.setRollbackOnly();
+        });
+
+        outboxDispatcher.poll();
+
+        assertThat(outboxTestEventHandler.receivedCount(key)).isZero();
+    }
+
+    private static String key() {
+        return UUID.randomUUID().toString();
+    }
+}
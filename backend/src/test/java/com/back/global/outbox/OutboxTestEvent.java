@@ -0,0 +1,7 @@
+package com.back.global.outbox;
+
+public record OutboxTestEvent(
+        String key,
+        boolean failOnce
+) {
+}
@@ -0,0 +1,31 @@
+package com.back.global.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// OutboxDispatcherTest 용 핸들러. 받은 횟수를 키별로 센다.
+@Component
+public class OutboxTestEventHandler implements OutboxEventHandler<OutboxTestEvent> {
+    private final Map<String, AtomicInteger> receivedCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public Class<OutboxTestEvent> payloadType() {
+        return OutboxTestEvent.class;
+    }
+
+    @Override
+    public void handle(OutboxTestEvent event) {
+        int count = receivedCounts.computeIfAbsent(event.key(), key -> new AtomicInteger()).incrementAndGet();
+
+        if (event.failOnce() && count == 1) throw new IllegalStateException("첫 전달 실패");
+    }
+
+    public int receivedCount(String key) {
+        AtomicInteger count = receivedCounts.get(key);
+
+        return count == null ? 0 : count.get();
+    }
+}
@@ -0,0 +1,126 @@
+package com.back.global.security;
+
+import com.back.global.exception.ServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class BoundedPasswordEncoderTest {
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("비밀번호 해싱은 전용 스레드에서 실행되고 소요 시간이 기록된다")
+    void t1() {
+        long matchesCount = meterRegistry.get("password.hash").tag("operation", "matches").timer().count();
+
+        String encoded = passwordEncoder.encode("1234");
+
+        assertThat(passwordEncoder.matches("1234", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("4321", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(matchesCount + 2);
+    }
+
+    @Test
+    @DisplayName("해싱 스레드와 대기열이 모두 차 있으면 기다리지 않고 429 로 거절한다")
+    void t2() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = blockingEncoder(0, Duration.ofSeconds(10), started, release);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> encoder.encode("1234"));
+            started.await();
+
+            assertThatThrownBy(() -> encoder.encode("1234"))
+                    .isInstanceOfSatisfying(
+                            ServiceException.class,
+                            e -> assertThat(e.getRsData().resultCode()).isEqualTo("429-1")
+                    );
+
+            release.countDown();
+            assertThat(first.get()).isEqualTo("encoded");
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("waitTimeout 안에 해싱이 끝나지 않으면 503 으로 거절한다")
+    void t3() {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = blockingEncoder(1, Duration.ofMillis(50), started, release);
+
+        try {
+            assertThatThrownBy(() -> encoder.matches("1234", "encoded"))
+                    .isInstanceOfSatisfying(
+                            ServiceException.class,
+                            e -> assertThat(e.getRsData().resultCode()).isEqualTo("503-1")
+                    );
+        } finally {
+            release.countDown();
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("목표 시간에 맞춰 strength 를 고르되 min/max 를 벗어나지 않는다")
+    void t4() {
+        assertThat(PasswordEncoderConfig.calibrateStrength(Duration.ZERO, 4, 8)).isEqualTo(4);
+        assertThat(PasswordEncoderConfig.calibrateStrength(Duration.ofSeconds(10), 4, 8)).isEqualTo(8);
+    }
+
+    private BoundedPasswordEncoder blockingEncoder(
+            int queueCapacity,
+            Duration waitTimeout,
+            CountDownLatch started,
+            CountDownLatch release
+    ) {
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                await();
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                await();
+                return true;
+            }
+
+            private void await() {
+                started.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        return new BoundedPasswordEncoder(slowEncoder, 1, queueCapacity, waitTimeout, new SimpleMeterRegistry());
+    }
+}
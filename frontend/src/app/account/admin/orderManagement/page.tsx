@@ -1,7 +1,7 @@
 "use client";
 
 import { useState, useEffect } from 'react';
-import { useCreateOrder, OrderDisplayData, OrderItemDisplayData } from '@/context/OrderContext';
+import { useCreateOrder, OrderDisplayData, OrderItemDisplayData, OrderSearchCond } from '@/context/OrderContext';
 
 export default function OrderManagement() {
   const [orders, setOrders] = useState<OrderDisplayData[]>([]);
@@ -11,22 +11,46 @@ export default function OrderManagement() {
   const [editingOrderItem, setEditingOrderItem] = useState<OrderItemDisplayData | null>(null);
   const [showOrderForm, setShowOrderForm] = useState(false);
   const [showOrderItemForm, setShowOrderItemForm] = useState(false);
+  const [searchCond, setSearchCond] = useState<OrderSearchCond>({});
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [totalCount, setTotalCount] = useState<number | null>(null);
+  const [totalCountCapped, setTotalCountCapped] = useState(false);
 
-  const { getAllOrdersForDisplay } = useCreateOrder();
+  const { searchOrdersForDisplay } = useCreateOrder();
 
   // 페이지 로드 시 주문 목록 가져오기
   useEffect(() => {
     loadOrders();
   }, []);
 
+  // 첫 페이지부터 다시 조회
   const loadOrders = async () => {
     try {
       setIsLoading(true);
       setError(null);
-      const ordersData = await getAllOrdersForDisplay();
-      setOrders(ordersData);
-    } catch (err) {
-      setError(err instanceof Error ? err.message : '주문 목록을 불러오는데 실패했습니다.');
+      const page = await searchOrdersForDisplay(searchCond);
+      setOrders(page.orders);
+      setNextCursor(page.nextCursor);
+      setTotalCount(page.totalCount);
+      setTotalCountCapped(page.totalCountCapped);
+    } catch (err: any) {
+      setError(err?.msg || (err instanceof Error ? err.message : '주문 목록을 불러오는데 실패했습니다.'));
+    } finally {
+      setIsLoading(false);
+    }
+  };
+
+  const loadMoreOrders = async () => {
+    if (!nextCursor) return;
+
+    try {
+      setIsLoading(true);
+      setError(null);
+      const page = await searchOrdersForDisplay(searchCond, nextCursor);
+      setOrders(prev => [...prev, ...page.orders]);
+      setNextCursor(page.nextCursor);
+    } catch (err: any) {
+      setError(err?.msg || (err instanceof Error ? err.message : '주문 목록을 불러오는데 실패했습니다.'));
     } finally {
       setIsLoading(false);
     }
@@ -74,13 +98,71 @@ export default function OrderManagement() {
             </button>
           </div>
 
+          <form
+            onSubmit={e => {
+              e.preventDefault();
+              loadOrders();
+            }}
+            className="flex flex-wrap items-end gap-3 mb-6"
+          >
+            <select
+              value={searchCond.paymentStatus ?? ''}
+              onChange={e => setSearchCond({ ...searchCond, paymentStatus: e.target.value || undefined })}
+              className="border rounded px-3 py-2"
+            >
+              <option value="">전체 상태</option>
+              <option value="PENDING">처리중</option>
+              <option value="COMPLETED">완료</option>
+              <option value="CANCELED">취소</option>
+            </select>
+            <input
+              type="date"
+              value={searchCond.startDate ?? ''}
+              onChange={e => setSearchCond({ ...searchCond, startDate: e.target.value || undefined })}
+              className="border rounded px-3 py-2"
+            />
+            <span className="py-2">~</span>
+            <input
+              type="date"
+              value={searchCond.endDate ?? ''}
+              onChange={e => setSearchCond({ ...searchCond, endDate: e.target.value || undefined })}
+              className="border rounded px-3 py-2"
+            />
+            <input
+              type="number"
+              placeholder="사용자 ID"
+              value={searchCond.userId ?? ''}
+              onChange={e => setSearchCond({ ...searchCond, userId: e.target.value ? Number(e.target.value) : undefined })}
+              className="border rounded px-3 py-2 w-28"
+            />
+            <input
+              type="number"
+              placeholder="최소 금액"
+              value={searchCond.minTotalPrice ?? ''}
+              onChange={e => setSearchCond({ ...searchCond, minTotalPrice: e.target.value ? Number(e.target.value) : undefined })}
+              className="border rounded px-3 py-2 w-32"
+            />
+            <button
+              type="submit"
+              disabled={isLoading}
+              className="bg-gray-700 hover:bg-gray-900 text-white font-bold py-2 px-4 rounded cursor-pointer disabled:opacity-50"
+            >
+              검색
+            </button>
+            {totalCount !== null && (
+              <span className="py-2 text-gray-600">
+                총 {totalCount.toLocaleString()}{totalCountCapped ? '+' : ''}건
+              </span>
+            )}
+          </form>
+
           {error && (
             <div className="mb-4 p-4 bg-red-100 border border-red-400 text-red-700 rounded">
               {error}
             </div>
           )}
 
-          {isLoading ? (
+          {isLoading && orders.length === 0 ? (
             <div className="text-center py-8 text-gray-500">주문 목록을 불러오는 중...</div>
           ) : orders.length === 0 ? (
             <div className="text-center py-8 text-gray-500">주문 내역이 없습니다.</div>
@@ -95,6 +177,15 @@ export default function OrderManagement() {
                   onEditOrderItem={handleEditOrderItem}
                 />
               ))}
+              {nextCursor && (
+                <button
+                  onClick={loadMoreOrders}
+                  disabled={isLoading}
+                  className="w-full border border-gray-300 hover:bg-gray-100 py-2 rounded cursor-pointer disabled:opacity-50"
+                >
+                  {isLoading ? '로딩 중...' : '더 보기'}
+                </button>
+              )}
             </div>
           )}
         </section>
@@ -501,6 +592,7 @@ function OrderEditForm({ order, onCancel, onSuccess }: {
           >
             <option value="처리중">처리중</option>
             <option value="완료">완료</option>
+            <option value="취소" disabled>취소</option>
           </select>
         </div>
         <div className="md:col-span-2">
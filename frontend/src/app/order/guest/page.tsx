@@ -97,7 +97,7 @@ function ProductItem({cartState, product} : {
         <>
             <li className="flex items-center mt-3 p-2 border-b border-gray-200">
                 <div className="w-1/5 md:w-1/6 flex-shrink-0">
-                    <img className="w-14 h-14 object-cover rounded" src={product.imageUrl} alt={product.name} />
+                    <img className="w-14 h-14 object-cover rounded" src={product.thumbnailUrl ?? product.imageUrl} alt={product.name} />
                 </div>
                 <Link href={`/products/detail/${product.id}`} className="flex-grow ml-4 w-0 flex-grow cursor-pointer">
                     <div className="font-semibold">{product.name}</div>
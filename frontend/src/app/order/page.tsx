@@ -1,6 +1,6 @@
 "use client";
 
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { useRouter } from 'next/navigation';
 import { useProducts } from '@/context/ProductContext';
 import { useProduct, ProductsProvider } from '@/context/ProductsContext';
@@ -128,7 +128,7 @@ function ProductItem({cartState, product} : {
     <>
       <li className="flex items-center mt-3 p-2 border-b border-gray-200">
         <div className="w-1/5 md:w-1/6 flex-shrink-0">
-          <img className="w-14 h-14 object-cover rounded" src={product.imageUrl} alt={product.name} />
+          <img className="w-14 h-14 object-cover rounded" src={product.thumbnailUrl ?? product.imageUrl} alt={product.name} />
         </div>
         <Link href={`/products/detail/${product.id}`} className="flex-grow ml-4 w-0 flex-grow cursor-pointer">
           <div className="font-semibold">{product.name}</div>
@@ -376,6 +376,8 @@ function CheckOut({cartState} : {cartState: ReturnType<typeof useCart>}) {
   const [showPaymentPopup, setShowPaymentPopup] = useState(false);
   const { processCompleteOrder, isLoading, error } = useCreateOrder();
   const { user } = useUser();
+  // 결제 팝업을 열 때마다 새로 만들고, 그 안에서의 재시도에는 같은 키를 쓴다.
+  const idempotencyKeyRef = useRef<string>('');
 
   // Calculate total price dynamically
   const totalPrice = cartItems.reduce((sum, item) => sum + item.price * item.quantity, 0);
@@ -390,6 +392,7 @@ function CheckOut({cartState} : {cartState: ReturnType<typeof useCart>}) {
       }
       
       // 결제 팝업 열기
+      idempotencyKeyRef.current = crypto.randomUUID();
       setShowPaymentPopup(true);
     } else {
       alert('로그인을 해야합니다.');
@@ -419,7 +422,7 @@ function CheckOut({cartState} : {cartState: ReturnType<typeof useCart>}) {
       };
 
       // 백엔드 API를 통한 주문 생성
-      const result = await processCompleteOrder(orderData, cartItems);
+      const result = await processCompleteOrder(orderData, cartItems, idempotencyKeyRef.current);
       
       // 장바구니 비우기
       setCartItems([]);
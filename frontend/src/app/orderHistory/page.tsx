@@ -31,14 +31,13 @@ const isRsDataFormat = (res: any): res is RsData<any> => {
 
 export default function OrderHistory() {
   const { orderHistory } = useProducts();
-  const { getMyOrders, getOrderItems, updateMyOrder, deleteMyOrder, orders, isLoading, error } = useCreateOrder();
+  const { getMyOrders, updateMyOrder, deleteMyOrder, orders, myOrderItemsMap, isLoading, error } = useCreateOrder();
   
   // 팝업 상태
   const [isPopupOpen, setIsPopupOpen] = useState(false);
   const [selectedOrderId, setSelectedOrderId] = useState<number | null>(null);
   const [orderItems, setOrderItems] = useState<any[]>([]);
   const [productNames, setProductNames] = useState<{ [key: number]: string }>({});
-  const [itemsLoading, setItemsLoading] = useState(false);
   const [editModalOpen, setEditModalOpen] = useState(false);
   const [editOrder, setEditOrder] = useState<any>(null);
   const [editForm, setEditForm] = useState({ address: '', paymentMethod: 'CARD' });
@@ -97,21 +96,11 @@ export default function OrderHistory() {
     }
   }, [orderItems]); // orderItems가 변경될 때마다 실행
 
-  // 주문 클릭 핸들러
-  const handleOrderClick = async (orderId: number) => {
+  // 주문 클릭 핸들러 (아이템은 주문 내역과 함께 받아 두었으므로 다시 조회하지 않음)
+  const handleOrderClick = (orderId: number) => {
     setSelectedOrderId(orderId);
     setIsPopupOpen(true);
-    setItemsLoading(true);
-    
-    try {
-      const items = await getOrderItems(orderId);
-      setOrderItems(items || []);
-    } catch (error) {
-      console.error('주문 아이템 조회 실패:', error);
-      setOrderItems([]);
-    } finally {
-      setItemsLoading(false);
-    }
+    setOrderItems(myOrderItemsMap[orderId] || []);
   };
 
   // 팝업 닫기 핸들러
@@ -182,11 +171,12 @@ export default function OrderHistory() {
       setEditItem(null);
       // 주문 아이템 목록 새로고침
       if (selectedOrderId) {
-        const items = await getOrderItems(selectedOrderId);
-        setOrderItems(items || []);
+        const { orderItemsMap } = await getMyOrders();
+        const items = orderItemsMap[selectedOrderId] || [];
+        setOrderItems(items);
         // 주문 합계 재계산 및 주문 정보 업데이트
-        const totalCount = (items || []).reduce((sum, item) => sum + item.quantity, 0);
-        const totalPrice = (items || []).reduce((sum, item) => sum + (item.unitPrice ?? item.price) * item.quantity, 0);
+        const totalCount = items.reduce((sum, item) => sum + (item.quantity ?? 0), 0);
+        const totalPrice = items.reduce((sum, item) => sum + (item.unitPrice ?? 0) * (item.quantity ?? 0), 0);
         // 주문 정보 가져오기 (orders에서 찾기)
         const order = orders?.find(o => o.id === selectedOrderId);
         if (!order || !order.id || !order.paymentMethod || !order.paymentStatus || !order.address) {
@@ -217,11 +207,12 @@ export default function OrderHistory() {
       alert('상품이 삭제되었습니다.');
       // 주문 아이템 목록 새로고침
       if (selectedOrderId != null) {
-        const items = await getOrderItems(selectedOrderId);
-        setOrderItems(items || []);
+        const { orderItemsMap } = await getMyOrders();
+        const items = orderItemsMap[selectedOrderId] || [];
+        setOrderItems(items);
         // 주문 합계 재계산 및 주문 정보 업데이트
-        const totalCount = (items || []).reduce((sum, item) => sum + item.quantity, 0);
-        const totalPrice = (items || []).reduce((sum, item) => sum + (item.unitPrice ?? item.price) * item.quantity, 0);
+        const totalCount = items.reduce((sum, item) => sum + (item.quantity ?? 0), 0);
+        const totalPrice = items.reduce((sum, item) => sum + (item.unitPrice ?? 0) * (item.quantity ?? 0), 0);
         // 주문 정보 가져오기 (orders에서 찾기)
         const order = orders?.find(o => o.id === selectedOrderId);
         if (!order || !order.id || !order.paymentMethod || !order.paymentStatus || !order.address) {
@@ -304,7 +295,7 @@ export default function OrderHistory() {
                     <h3 className="text-xl font-semibold text-gray-700">주문 번호: #{order.id ?? 0}</h3>
                     <p className="text-gray-600">주문일: {formatDate(order.createDate)}</p>
                     <p className="text-sm text-gray-500">결제방법: {order.paymentMethod ?? '정보 없음'}</p>
-                    <p className="text-sm text-gray-500">결제상태: {order.paymentStatus === 'COMPLETED' ? '완료' : '처리중'}</p>
+                    <p className="text-sm text-gray-500">결제상태: {order.paymentStatus === 'COMPLETED' ? '완료' : order.paymentStatus === 'CANCELED' ? '취소' : '처리중'}</p>
                   </div>
                   <div className="text-right">
                     <p className="text-lg font-bold text-gray-800">{(order.totalPrice ?? 0).toLocaleString()}원</p>
@@ -354,11 +345,7 @@ export default function OrderHistory() {
               </button>
             </div>
             
-            {itemsLoading ? (
-              <div className="text-center py-8">
-                <p className="text-gray-500">주문 상품을 불러오는 중...</p>
-              </div>
-            ) : orderItems.length === 0 ? (
+            {orderItems.length === 0 ? (
               <div className="text-center py-8">
                 <p className="text-gray-500">주문 상품이 없습니다.</p>
               </div>
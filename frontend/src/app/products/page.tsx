@@ -45,7 +45,7 @@ function ProductCard({ product }: { product: Product }) {
   return (
     <Link href={`/products/detail/${product.id}`} className="relative block group rounded-lg border border-transparent px-5 py-4 transition-colors hover:border-gray-300 hover:bg-gray-100 hover:dark:border-neutral-700 hover:dark:bg-neutral-800/30">
       <div>
-        <img src={product.imageUrl} alt={product.name} className="mb-3 h-50 w-full object-cover rounded"/>
+        <img src={product.listImageUrl ?? product.imageUrl} alt={product.name} className="mb-3 h-50 w-full object-cover rounded"/>
         {/*<button onClick={() => toggleFavorite(product.id)} className="cursor-pointer">*/}
         {/*  {favoriteProducts[product.id] ? <FaHeart color="red" /> : <FaRegHeart />}*/}
         {/*</button>*/}
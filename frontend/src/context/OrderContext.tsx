@@ -7,6 +7,33 @@ import { apiFetch } from "@/lib/backend/client";
 type OrderDto = components['schemas']['OrderDto'];
 type OrderItemDto = components['schemas']['OrderItemDto'];
 
+type OrderHistoryPage = {
+    items: { order: OrderDto; orderItems: OrderItemDto[] }[];
+    nextCursor?: string | null;
+};
+
+type OrderSearchPage = OrderHistoryPage & {
+    totalCount?: number | null;
+    totalCountCapped: boolean;
+};
+
+// 관리자 주문 검색 조건 (비어 있는 값은 보내지 않음)
+export type OrderSearchCond = {
+    paymentStatus?: string;
+    paymentMethod?: string;
+    startDate?: string;
+    endDate?: string;
+    userId?: number;
+    minTotalPrice?: number;
+};
+
+export type OrderSearchDisplayPage = {
+    orders: OrderDisplayData[];
+    nextCursor: string | null;
+    totalCount: number | null;
+    totalCountCapped: boolean;
+};
+
 // 기존 타입들
 export type CreateOrderRequest = {
     orderCount: number;
@@ -132,7 +159,8 @@ const formatDate = (dateString: string): string => {
 const mapPaymentStatusToDisplayStatus = (paymentStatus: string): string => {
   const statusMap: { [key: string]: string } = {
     'PENDING': '처리중',
-    'COMPLETED': '완료'
+    'COMPLETED': '완료',
+    'CANCELED': '취소'
   };
   
   return statusMap[paymentStatus] || paymentStatus;
@@ -141,7 +169,8 @@ const mapPaymentStatusToDisplayStatus = (paymentStatus: string): string => {
 export const mapDisplayStatusToPaymentStatus = (displayStatus: string): string => {
   const statusMap: { [key: string]: string } = {
     '처리중': 'PENDING',
-    '완료': 'COMPLETED'
+    '완료': 'COMPLETED',
+    '취소': 'CANCELED'
   };
   
   return statusMap[displayStatus] || displayStatus;
@@ -162,6 +191,7 @@ export const useCreateOrder = () => {
     const [error, setError] = useState<string | null>(null);
     const [orders, setOrders] = useState<OrderDto[]>([]);
     const [orderItems, setOrderItems] = useState<OrderItemDto[]>([]);
+    const [myOrderItemsMap, setMyOrderItemsMap] = useState<{ [orderId: number]: OrderItemDto[] }>({});
 
     const createOrder = (orderData: CreateOrderRequest) => {
         setIsLoading(true);
@@ -442,68 +472,97 @@ export const useCreateOrder = () => {
     };
 
     // 주문 목록을 표시용 데이터로 변환해서 반환하는 함수
+    // 주문 내역 API 는 아이템을 포함해서 내려주므로 주문마다 아이템을 따로 조회하지 않는다.
     const getAllOrdersForDisplay = async (): Promise<OrderDisplayData[]> => {
-        const orders = await getAllOrders();
-        
-        // 각 주문의 아이템들을 가져와서 매핑 생성
+        setIsLoading(true);
+        setError(null);
+
+        const orders: OrderDto[] = [];
         const orderItemsMap: { [orderId: number]: OrderItemDto[] } = {};
-        
-        for (const order of orders) {
-            try {
-                const items = await getOrderItems(order.id);
-                orderItemsMap[order.id] = items;
-            } catch (error) {
-                console.error(`주문 ${order.id}의 아이템을 불러오는데 실패:`, error);
-                orderItemsMap[order.id] = [];
-            }
+
+        try {
+            let cursor: string | null = null;
+
+            do {
+                const query: string = cursor ? `?size=100&cursor=${encodeURIComponent(cursor)}` : '?size=100';
+                const res = (await apiFetch(`/api/v1/adm/orders/history${query}`)) as unknown as OrderHistoryPage;
+
+                for (const { order, orderItems } of res.items) {
+                    orders.push(order);
+                    orderItemsMap[order.id ?? 0] = orderItems;
+                }
+
+                cursor = res.nextCursor ?? null;
+            } while (cursor);
+        } catch (err: any) {
+            setError(err.msg || err.message || '주문 목록을 불러오는데 실패했습니다.');
+            throw err;
+        } finally {
+            setIsLoading(false);
         }
-        
+
+        setOrders(orders);
+
         return transformOrdersToDisplayData(orders, orderItemsMap);
     };
 
-    const getMyOrders = () => {
+    // 관리자 주문 검색. 한 페이지씩 가져오며 전체 건수는 첫 페이지에만 온다.
+    const searchOrdersForDisplay = async (cond: OrderSearchCond, cursor?: string | null): Promise<OrderSearchDisplayPage> => {
+        const params = new URLSearchParams();
+
+        Object.entries(cond).forEach(([key, value]) => {
+            if (value !== undefined && value !== null && value !== '') params.set(key, String(value));
+        });
+        if (cursor) params.set('cursor', cursor);
+
+        const res = (await apiFetch(`/api/v1/adm/orders/search?${params.toString()}`)) as unknown as OrderSearchPage;
+
+        const orderItemsMap: { [orderId: number]: OrderItemDto[] } = {};
+        res.items.forEach(({ order, orderItems }) => {
+            orderItemsMap[order.id ?? 0] = orderItems;
+        });
+
+        return {
+            orders: transformOrdersToDisplayData(res.items.map(({ order }) => order), orderItemsMap),
+            nextCursor: res.nextCursor ?? null,
+            totalCount: res.totalCount ?? null,
+            totalCountCapped: res.totalCountCapped
+        };
+    };
+
+    // 내 주문 내역 API 는 아이템을 포함해서 내려주므로 주문마다 아이템을 따로 조회하지 않는다.
+    const getMyOrders = async (): Promise<{ orders: OrderDto[]; orderItemsMap: { [orderId: number]: OrderItemDto[] } }> => {
         setIsLoading(true);
         setError(null);
-        
-        return apiFetch('/api/v1/orders/my', {
-            method: 'GET'
-        })
-        .then((res: any) => {
-            setIsLoading(false);
-            console.log('apiFetch 응답:', res);
-            
-            // 배열이면 그대로 사용
-            if (Array.isArray(res)) {
-                setOrders(res);
-                return res;
-            }
-            
-            // 에러 체크
-            if (hasError(res)) {
-                setError(res.error.msg);
-                throw new Error(res.error.msg);
-            }
-            
-            // RsData 형식이면 data 필드 사용
-            if (isRsDataFormat(res) && res.data) {
-                const ordersData = Array.isArray(res.data) ? res.data : [];
-                setOrders(ordersData);
-                return ordersData;
-            }
-            
-            // 그 외의 경우 빈 배열 반환
-            setOrders([]);
-            return [];
-        })
-        .catch(err => {
-            setIsLoading(false);
-            if (err.msg) {
-                setError(err.msg);
-            } else {
-                setError(err.message || '알 수 없는 오류가 발생했습니다.');
-            }
+
+        const orders: OrderDto[] = [];
+        const orderItemsMap: { [orderId: number]: OrderItemDto[] } = {};
+
+        try {
+            let cursor: string | null = null;
+
+            do {
+                const query: string = cursor ? `?size=100&cursor=${encodeURIComponent(cursor)}` : '?size=100';
+                const res = (await apiFetch(`/api/v1/orders/my/history${query}`)) as unknown as OrderHistoryPage;
+
+                for (const { order, orderItems } of res.items) {
+                    orders.push(order);
+                    orderItemsMap[order.id ?? 0] = orderItems;
+                }
+
+                cursor = res.nextCursor ?? null;
+            } while (cursor);
+        } catch (err: any) {
+            setError(err.msg || err.message || '알 수 없는 오류가 발생했습니다.');
             throw err;
-        });
+        } finally {
+            setIsLoading(false);
+        }
+
+        setOrders(orders);
+        setMyOrderItemsMap(orderItemsMap);
+
+        return { orders, orderItemsMap };
     };
 
     const getOrderItems = (orderId: number) => {
@@ -553,30 +612,35 @@ export const useCreateOrder = () => {
 
     const processCompleteOrder = (
         orderData: CreateOrderRequest,
-        cartItems: Array<{ id: number; quantity: number; price: number }>
+        cartItems: Array<{ id: number; quantity: number; price: number }>,
+        idempotencyKey?: string
     ) => {
         setIsLoading(true);
         setError(null);
 
-        return createOrder(orderData)
-            .then(order => {
-                const orderItemsData = cartItems.map(item => ({
-                    orderId: order.id,
-                    quantity: item.quantity,
-                    unitPrice: item.price,
-                    productId: item.id
-                }));
-                
-                return orderItemsData.reduce((promise, itemData) => {
-                    return promise.then(results => {
-                        return createOrderItem(itemData)
-                            .then(orderItem => [...results, orderItem]);
-                    });
-                }, Promise.resolve([] as OrderItemDto[]))
-                .then(orderItems => {
-                    setIsLoading(false);
-                    return { order, orderItems };
-                });
+        // 주문과 주문 아이템을 한 번의 요청으로 생성 (가격/합계는 서버에서 계산)
+        // 같은 결제 시도를 다시 보내도 주문이 중복 생성되지 않도록 Idempotency-Key 를 붙인다.
+        return apiFetch('/api/v1/checkout', {
+            method: 'POST',
+            headers: idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : undefined,
+            body: JSON.stringify({
+                items: cartItems.map(item => ({
+                    productId: item.id,
+                    quantity: item.quantity
+                })),
+                paymentMethod: orderData.paymentMethod,
+                address: orderData.address
+            })
+        })
+            .then((res: any) => {
+                setIsLoading(false);
+                if (hasError(res)) {
+                    setError(res.error.msg);
+                    throw new Error(res.error.msg);
+                }
+
+                const data = isRsDataFormat(res) ? res.data : res;
+                return { order: data.order as OrderDto, orderItems: data.orderItems as OrderItemDto[] };
             })
             .catch(err => {
                 setIsLoading(false);
@@ -601,6 +665,7 @@ export const useCreateOrder = () => {
         // 관리자용 함수들
         getAllOrders,
         getAllOrdersForDisplay,
+        searchOrdersForDisplay,
         updateOrder,      // 관리자용 주문 수정
         deleteOrder,      // 관리자용 주문 삭제
         updateOrderItem,  // 관리자용 주문아이템 수정
@@ -614,6 +679,7 @@ export const useCreateOrder = () => {
         // 상태들
         orders,
         orderItems,
+        myOrderItemsMap,
         isLoading,
         error
     };
@@ -19,7 +19,22 @@ export function ProductsProvider({ children }: { children: React.ReactNode }) {
   const [products, setProducts] = useState<Product[] | null>(null);
 
   useEffect(() => {
-    apiFetch('/api/v1/products')
+    // 한 페이지는 최대 100개이므로 nextCursor 가 없을 때까지 이어서 받는다.
+    const fetchAll = async () => {
+      const items: Product[] = [];
+      let cursor: string | null = null;
+
+      do {
+        const query: string = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+        const page: any = await apiFetch(`/api/v1/products?size=100${query}`);
+        items.push(...page.items);
+        cursor = page.nextCursor ?? null;
+      } while (cursor);
+
+      return items;
+    };
+
+    fetchAll()
       .then(setProducts)
       .catch((error) => {
         alert(`${error.resultCode} : ${error.msg}`);
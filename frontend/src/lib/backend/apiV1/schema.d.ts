@@ -745,6 +745,9 @@ export interface components {
             /** Format: date-time */
             modifyDate: string;
             url: string;
+            thumbnailUrl?: string;
+            listUrl?: string;
+            detailUrl?: string;
             /** Format: int32 */
             productId: number;
         };
@@ -777,6 +780,8 @@ export interface components {
             /** Format: int32 */
             stock: number;
             imageUrl: string;
+            thumbnailUrl?: string;
+            listImageUrl?: string;
         };
         AdminUserDto: {
             /** Format: int32 */